@@ -0,0 +1,87 @@
+package org.prgrms.java.repository.voucher;
+
+import org.openjdk.jmh.annotations.*;
+import org.prgrms.java.common.UuidGenerator;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무작위 UUID(버전 4)와 시간 순서 UUID(버전 7)를 기본키로 쓸 때의 MySQL 바우처 삽입 속도를 비교한다.
+ * 테이블은 반복 내내 비우지 않으므로, 행이 쌓여 인덱스가 버퍼 풀보다 커질수록 두 방식의 차이가 벌어진다.
+ * 접속 정보는 -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.username, -Dbenchmark.jdbc.password 로 넘긴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JdbcVoucherInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final String CREATE_TABLE_QUERY = """
+            CREATE TABLE vouchers
+            (
+                voucher_id      BINARY(16)      PRIMARY KEY NOT NULL,
+                owner_id        BINARY(16)      DEFAULT NULL,
+                amount          BIGINT          NOT NULL,
+                type            VARCHAR(50)     NOT NULL,
+                created_at      DATETIME(6)     NOT NULL,
+                expired_at      DATETIME(6)     NOT NULL,
+                used            BOOLEAN         DEFAULT FALSE NOT NULL,
+                INDEX idx_voucher_owner_id (owner_id),
+                INDEX idx_voucher_expired_at (expired_at)
+            )""";
+
+    @Param({"random", "time-ordered"})
+    public String idStrategy;
+
+    private JdbcVoucherRepository voucherRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:mysql://localhost:3306/voucher_benchmark?rewriteBatchedStatements=true"),
+                System.getProperty("benchmark.jdbc.username", "root"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS vouchers");
+        jdbcTemplate.execute(CREATE_TABLE_QUERY);
+        voucherRepository = new JdbcVoucherRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @Benchmark
+    public Voucher insert() {
+        return voucherRepository.insert(createVoucher());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Voucher> insertAll() {
+        List<Voucher> vouchers = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            vouchers.add(createVoucher());
+        }
+        return voucherRepository.insertAll(vouchers);
+    }
+
+    private Voucher createVoucher() {
+        LocalDateTime now = LocalDateTime.now();
+        return FixedAmountVoucher.builder()
+                .voucherId(nextId())
+                .amount(1000)
+                .isUsed(false)
+                .createdAt(now)
+                .expiredAt(now.plusDays(7))
+                .build();
+    }
+
+    private UUID nextId() {
+        return "random".equals(idStrategy) ? UUID.randomUUID() : UuidGenerator.generate();
+    }
+}
@@ -0,0 +1,117 @@
+package org.prgrms.java.repository.voucher;
+
+import org.openjdk.jmh.annotations.*;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherSummary;
+import org.prgrms.java.domain.voucher.VoucherType;
+import org.prgrms.java.service.mapper.VoucherMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.prgrms.java.common.TypeConversionUtils.toUUID;
+
+/**
+ * 같은 바우처 행을 SELECT * 와 열 이름으로 읽을 때, 열을 지정하고 순서로 읽을 때, 필요한 열만 읽을 때의 처리량을 비교한다.
+ * 접속 정보는 JdbcVoucherInsertBenchmark 와 같이 -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.username, -Dbenchmark.jdbc.password 로 넘긴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JdbcVoucherMappingBenchmark {
+    private static final String CREATE_TABLE_QUERY = """
+            CREATE TABLE vouchers
+            (
+                voucher_id      BINARY(16)      PRIMARY KEY NOT NULL,
+                owner_id        BINARY(16)      DEFAULT NULL,
+                amount          BIGINT          NOT NULL,
+                type            VARCHAR(50)     NOT NULL,
+                created_at      DATETIME(6)     NOT NULL,
+                expired_at      DATETIME(6)     NOT NULL,
+                used            BOOLEAN         DEFAULT FALSE NOT NULL,
+                INDEX idx_voucher_owner_id (owner_id),
+                INDEX idx_voucher_expired_at (expired_at)
+            )""";
+    private static final String SELECT_ALL_COLUMNS_QUERY = "SELECT * FROM vouchers";
+
+    // 변경 전 방식: 열 이름으로 찾고, owner_id 를 두 번 읽고, 타입 이름을 행마다 values() 를 훑어 찾는다.
+    private static final RowMapper<Voucher> mapByColumnName = (resultSet, rowNum) -> {
+        UUID voucherId = toUUID(resultSet.getBytes("voucher_id"));
+        UUID customerId = resultSet.getBytes("owner_id") == null ? null : toUUID(resultSet.getBytes("owner_id"));
+        long amount = resultSet.getLong("amount");
+        String typeName = resultSet.getString("type");
+        VoucherType type = null;
+        for (VoucherType candidate : VoucherType.values()) {
+            if (candidate.toString().equals(typeName)) {
+                type = candidate;
+            }
+        }
+        LocalDateTime createdAt = resultSet.getTimestamp("created_at").toLocalDateTime();
+        LocalDateTime expiredAt = resultSet.getTimestamp("expired_at").toLocalDateTime();
+        boolean used = resultSet.getBoolean("used");
+
+        return VoucherMapper.mapToVoucher(type, voucherId, customerId, amount, createdAt, expiredAt, used);
+    };
+
+    @Param({"10000"})
+    public int rows;
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcVoucherRepository voucherRepository;
+    private UUID ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("benchmark.jdbc.url", "jdbc:mysql://localhost:3306/voucher_benchmark?rewriteBatchedStatements=true"),
+                System.getProperty("benchmark.jdbc.username", "root"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS vouchers");
+        jdbcTemplate.execute(CREATE_TABLE_QUERY);
+        voucherRepository = new JdbcVoucherRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+
+        ownerId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<Voucher> vouchers = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            vouchers.add(FixedAmountVoucher.builder()
+                    .voucherId(UUID.randomUUID())
+                    .ownerId((i % 2 == 0) ? ownerId : null)
+                    .amount(1000)
+                    .isUsed(false)
+                    .createdAt(now)
+                    .expiredAt(now.plusDays(7))
+                    .build());
+        }
+        voucherRepository.insertAll(vouchers);
+    }
+
+    @Benchmark
+    public List<Voucher> selectAllColumnsByName() {
+        return jdbcTemplate.query(SELECT_ALL_COLUMNS_QUERY, mapByColumnName);
+    }
+
+    @Benchmark
+    public List<Voucher> projectionByIndex() {
+        return voucherRepository.findAll();
+    }
+
+    @Benchmark
+    public List<VoucherSummary> summaries() {
+        return voucherRepository.findSummaries();
+    }
+
+    @Benchmark
+    public List<UUID> idsByOwner() {
+        return voucherRepository.findIdsByCustomer(ownerId);
+    }
+}
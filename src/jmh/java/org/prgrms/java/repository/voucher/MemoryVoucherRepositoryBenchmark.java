@@ -0,0 +1,92 @@
+package org.prgrms.java.repository.voucher;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 바우처 저장소의 조회, 수정, 조건부 변경 처리량을 잰다.
+ * gradle jmh 는 스레드 하나로만 돌리므로, 스레드 수(1~64)별 처리량은 main 으로 실행해 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MemoryVoucherRepositoryBenchmark {
+    private static final int VOUCHERS = 100_000;
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    private MemoryVoucherRepository voucherRepository;
+    private Voucher[] vouchers;
+    private UUID[] owners;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+        vouchers = new Voucher[VOUCHERS];
+        owners = new UUID[]{UUID.randomUUID(), UUID.randomUUID()};
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < VOUCHERS; i++) {
+            vouchers[i] = voucherRepository.insert(FixedAmountVoucher.builder()
+                    .voucherId(UUID.randomUUID())
+                    .ownerId(owners[i % 2])
+                    .amount(1000)
+                    .isUsed(false)
+                    .createdAt(now)
+                    .expiredAt(now.plusDays(7))
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        voucherRepository.close();
+    }
+
+    @Benchmark
+    public Object findById() {
+        return voucherRepository.findById(randomVoucher().getVoucherId());
+    }
+
+    @Benchmark
+    public Object update() {
+        return voucherRepository.update(randomVoucher());
+    }
+
+    // 두 소유자 사이를 오가게 해 성공과 실패가 섞이도록 한다.
+    @Benchmark
+    public boolean compareAndSetOwner() {
+        Voucher voucher = randomVoucher();
+        int from = ThreadLocalRandom.current().nextInt(2);
+        return voucherRepository.compareAndSetOwner(voucher.getVoucherId(), owners[from], owners[1 - from]);
+    }
+
+    @Benchmark
+    public boolean markUsedIfUnused() {
+        return voucherRepository.markUsedIfUnused(randomVoucher().getVoucherId());
+    }
+
+    private Voucher randomVoucher() {
+        return vouchers[ThreadLocalRandom.current().nextInt(VOUCHERS)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .include(MemoryVoucherRepositoryBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .warmupIterations(2)
+                    .measurementIterations(3)
+                    .forks(1)
+                    .build())
+                    .run();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.prgrms.java.service.mapper;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prgrms.java.domain.customer.Customer;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperBenchmark {
+    private static final int ROWS = 1_000_000;
+
+    private List<String> voucherLines;
+    private List<String> customerLines;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path voucherFile = Files.createTempFile("voucher_benchmark", ".csv");
+        Path customerFile = Files.createTempFile("customer_benchmark", ".csv");
+        LocalDateTime now = LocalDateTime.now();
+        try (BufferedWriter voucherWriter = Files.newBufferedWriter(voucherFile);
+             BufferedWriter customerWriter = Files.newBufferedWriter(customerFile)) {
+            for (int i = 0; i < ROWS; i++) {
+                Voucher voucher = FixedAmountVoucher.builder()
+                        .voucherId(UUID.randomUUID())
+                        .ownerId((i % 2 == 0) ? UUID.randomUUID() : null)
+                        .amount(1000 + i % 1000)
+                        .isUsed(i % 3 == 0)
+                        .createdAt(now.minusSeconds(i))
+                        .expiredAt(now.plusDays(7))
+                        .build();
+                Customer customer = Customer.builder()
+                        .customerId(UUID.randomUUID())
+                        .name("customer-" + i)
+                        .email("customer-" + i + "@gmail.com")
+                        .createdAt(now.minusSeconds(i))
+                        .isBlocked(i % 10 == 0)
+                        .build();
+                voucherWriter.write(voucher.toString());
+                voucherWriter.newLine();
+                customerWriter.write(customer.toString());
+                customerWriter.newLine();
+            }
+        }
+        voucherLines = Files.readAllLines(voucherFile);
+        customerLines = Files.readAllLines(customerFile);
+        Files.delete(voucherFile);
+        Files.delete(customerFile);
+    }
+
+    @Benchmark
+    public void mapVouchers(Blackhole blackhole) {
+        for (String line : voucherLines) {
+            blackhole.consume(VoucherMapper.mapToVoucher(line));
+        }
+    }
+
+    @Benchmark
+    public void mapVouchersWithSplit(Blackhole blackhole) {
+        for (String line : voucherLines) {
+            blackhole.consume(splitToVoucher(line));
+        }
+    }
+
+    @Benchmark
+    public void mapCustomers(Blackhole blackhole) {
+        for (String line : customerLines) {
+            blackhole.consume(CustomerMapper.mapToCustomer(line));
+        }
+    }
+
+    @Benchmark
+    public void mapCustomersWithSplit(Blackhole blackhole) {
+        for (String line : customerLines) {
+            blackhole.consume(splitToCustomer(line));
+        }
+    }
+
+    // 비교 기준: 문자 단위 파서를 도입하기 전의 split/trim 기반 매핑
+    private static Voucher splitToVoucher(String line) {
+        String[] fields = line.split(",");
+        UUID voucherId = UUID.fromString(fields[0].trim());
+        UUID ownerId = (fields[1].trim().equals("null")) ? null : UUID.fromString(fields[1].trim());
+        long amount = Long.parseLong(fields[2].trim());
+        VoucherType type = VoucherType.of(fields[3].trim());
+        LocalDateTime createdAt = LocalDateTime.parse(fields[4].trim());
+        LocalDateTime expiredAt = LocalDateTime.parse(fields[5].trim());
+        boolean used = Boolean.parseBoolean(fields[6].trim());
+        return VoucherMapper.mapToVoucher(type, voucherId, ownerId, amount, createdAt, expiredAt, used);
+    }
+
+    private static Customer splitToCustomer(String line) {
+        String[] fields = line.split(",");
+        return Customer.builder()
+                .customerId(UUID.fromString(fields[0].trim()))
+                .name(fields[1].trim())
+                .email(fields[2].trim())
+                .createdAt(LocalDateTime.parse(fields[3].trim()))
+                .isBlocked(Boolean.parseBoolean(fields[4].trim()))
+                .build();
+    }
+}
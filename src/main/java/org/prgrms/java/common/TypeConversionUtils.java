@@ -4,6 +4,8 @@ import java.nio.ByteBuffer;
 import java.util.UUID;
 
 public class TypeConversionUtils {
+    private static final int UUID_BYTES = 16;
+
     private TypeConversionUtils() {
     }
 
@@ -11,4 +13,12 @@ public class TypeConversionUtils {
         ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
     }
+
+    // BINARY(16) 컬럼에 그대로 바인딩하는 16바이트 표현. UUID_TO_BIN(문자열)과 같은 바이트 순서다.
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(UUID_BYTES)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
 }
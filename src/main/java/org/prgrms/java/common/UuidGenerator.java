@@ -0,0 +1,28 @@
+package org.prgrms.java.common;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidGenerator {
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    // 마지막으로 쓴 (시각 << 12 | 순번). 순번이 넘치면 다음 밀리초를 미리 빌려 쓰므로 시계가 뒤로 가도 순서가 유지된다.
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    private UuidGenerator() {
+    }
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long timestamp = LAST_TIMESTAMP.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSignificantBits = (timestamp >>> SEQUENCE_BITS) << 16 | VERSION | (timestamp & SEQUENCE_MASK);
+        long leastSignificantBits = RANDOM.nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
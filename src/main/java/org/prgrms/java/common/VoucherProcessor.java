@@ -5,7 +5,7 @@ import org.prgrms.java.common.command.MenuCommand;
 import org.prgrms.java.controller.CustomerController;
 import org.prgrms.java.controller.VoucherController;
 import org.prgrms.java.domain.customer.Customer;
-import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherStatus;
 import org.prgrms.java.domain.voucher.VoucherType;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
@@ -228,7 +228,7 @@ public class VoucherProcessor implements ApplicationRunner {
 
     private void invokeFindCustomerHavingVoucher() {
         view.print(MessageGuide.REQUIRE_VOUCHER_ID);
-        Voucher voucher = voucherController.findVoucherById(view.read());
+        VoucherStatus voucher = voucherController.findVoucherStatus(view.read());
         Customer customer = customerController.findCustomer("id", voucher.getOwnerId().toString());
 
         view.print(customer);
@@ -254,8 +254,7 @@ public class VoucherProcessor implements ApplicationRunner {
         view.print(MessageGuide.REQUIRE_CUSTOMER_ID);
         String customerId = view.read();
 
-        voucherController.findVouchersByOwner(customerId)
-                .forEach(voucher -> voucherController.detachOwnerFromVoucher(voucher.getVoucherId().toString()));
+        voucherController.detachOwnerFromAllVouchers(customerId);
 
         view.print(MessageGuide.SUCCESS_MESSAGE);
     }
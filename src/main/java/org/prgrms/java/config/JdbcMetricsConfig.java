@@ -0,0 +1,46 @@
+package org.prgrms.java.config;
+
+import org.prgrms.java.repository.customer.JdbcCustomerRepository;
+import org.prgrms.java.repository.support.InstrumentedDataSource;
+import org.prgrms.java.repository.support.QueryMetrics;
+import org.prgrms.java.repository.voucher.JdbcVoucherRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class JdbcMetricsConfig {
+    @Bean
+    public QueryMetrics queryMetrics(@Value("${prgrms.jdbc.metrics.slow-query-millis}") long SLOW_QUERY_MILLIS,
+                                     @Value("${prgrms.jdbc.metrics.slow-acquisition-millis}") long SLOW_ACQUISITION_MILLIS) {
+        QueryMetrics queryMetrics = new QueryMetrics(Duration.ofMillis(SLOW_QUERY_MILLIS), Duration.ofMillis(SLOW_ACQUISITION_MILLIS));
+        queryMetrics.registerQueries(JdbcVoucherRepository.class);
+        queryMetrics.registerQueries(JdbcCustomerRepository.class);
+        return queryMetrics;
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<QueryMetrics> queryMetrics,
+                                                                        @Value("${prgrms.jdbc.metrics.enabled}") boolean ENABLED) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (ENABLED && bean instanceof DataSource dataSource && isConnectionPool(dataSource)) {
+                    return new InstrumentedDataSource(dataSource, queryMetrics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isConnectionPool(DataSource dataSource) {
+        return !(dataSource instanceof DelegatingDataSource) && !(dataSource instanceof AbstractRoutingDataSource);
+    }
+}
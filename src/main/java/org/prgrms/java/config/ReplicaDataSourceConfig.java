@@ -0,0 +1,54 @@
+package org.prgrms.java.config;
+
+import org.prgrms.java.repository.support.ReplicaLagMonitor;
+import org.prgrms.java.repository.support.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "prgrms.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().build();
+    }
+
+    @Bean
+    @ConfigurationProperties("prgrms.datasource.replica.hikari")
+    public DataSource replicaDataSource(@Value("${prgrms.datasource.replica.url}") String URL,
+                                        @Value("${prgrms.datasource.replica.username}") String USERNAME,
+                                        @Value("${prgrms.datasource.replica.password}") String PASSWORD) {
+        return DataSourceBuilder.create()
+                .url(URL)
+                .username(USERNAME)
+                .password(PASSWORD)
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${prgrms.datasource.replica.max-lag-millis}") long MAX_LAG_MILLIS,
+                                               @Value("${prgrms.datasource.replica.check-interval-millis}") long CHECK_INTERVAL_MILLIS) {
+        return new ReplicaLagMonitor(replicaDataSource, Duration.ofMillis(MAX_LAG_MILLIS), Duration.ofMillis(CHECK_INTERVAL_MILLIS));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+}
@@ -0,0 +1,41 @@
+package org.prgrms.java.config;
+
+import org.prgrms.java.repository.customer.CachingCustomerRepository;
+import org.prgrms.java.repository.customer.CustomerRepository;
+import org.prgrms.java.repository.customer.JdbcCustomerRepository;
+import org.prgrms.java.repository.support.ReplicaLagMonitor;
+import org.prgrms.java.repository.support.ReplicaRoutingDataSource;
+import org.prgrms.java.repository.voucher.CachingVoucherRepository;
+import org.prgrms.java.repository.voucher.JdbcVoucherRepository;
+import org.prgrms.java.repository.voucher.VoucherRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.function.BooleanSupplier;
+
+@Configuration
+public class RepositoryConfig {
+    @Bean
+    @Primary
+    public VoucherRepository voucherRepository(JdbcVoucherRepository jdbcVoucherRepository, ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                               @Value("${prgrms.cache.enabled}") boolean CACHE_ENABLED,
+                                               @Value("${prgrms.cache.maximum-size}") int CACHE_MAXIMUM_SIZE, @Value("${prgrms.cache.ttl-millis}") long CACHE_TTL_MILLIS) {
+        return CACHE_ENABLED ? new CachingVoucherRepository(jdbcVoucherRepository, CACHE_MAXIMUM_SIZE, CACHE_TTL_MILLIS, fillsFromPrimaryOnly(replicaLagMonitor)) : jdbcVoucherRepository;
+    }
+
+    @Bean
+    @Primary
+    public CustomerRepository customerRepository(JdbcCustomerRepository jdbcCustomerRepository, ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                                 @Value("${prgrms.cache.enabled}") boolean CACHE_ENABLED,
+                                                 @Value("${prgrms.cache.maximum-size}") int CACHE_MAXIMUM_SIZE, @Value("${prgrms.cache.ttl-millis}") long CACHE_TTL_MILLIS) {
+        return CACHE_ENABLED ? new CachingCustomerRepository(jdbcCustomerRepository, CACHE_MAXIMUM_SIZE, CACHE_TTL_MILLIS, fillsFromPrimaryOnly(replicaLagMonitor)) : jdbcCustomerRepository;
+    }
+
+    private static BooleanSupplier fillsFromPrimaryOnly(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        return (monitor == null) ? () -> true : () -> !ReplicaRoutingDataSource.routesToReplica(monitor);
+    }
+}
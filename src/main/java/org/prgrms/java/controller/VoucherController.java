@@ -3,6 +3,8 @@ package org.prgrms.java.controller;
 import org.prgrms.java.domain.voucher.CreateVoucherRequest;
 import org.prgrms.java.domain.voucher.Voucher;
 import org.prgrms.java.domain.voucher.VoucherDto;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
 import org.prgrms.java.service.VoucherService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -70,6 +72,14 @@ public class VoucherController {
         return voucherService.getVoucherById(voucherId);
     }
 
+    public VoucherStatus findVoucherStatus(String voucherId) {
+        return voucherService.getVoucherStatus(voucherId);
+    }
+
+    public List<VoucherSummary> findVoucherSummaries() {
+        return voucherService.getAllVoucherSummaries();
+    }
+
     public List<Voucher> findVouchersByOwner(String customerId) {
         return voucherService.getVoucherByOwnerId(customerId);
     }
@@ -94,6 +104,18 @@ public class VoucherController {
         return voucherService.detachOwnerFromVoucher(voucherId);
     }
 
+    public int useVouchers(List<String> voucherIds) {
+        return voucherService.useVouchers(voucherIds);
+    }
+
+    public int allocateVouchers(List<String> voucherIds, String customerId) {
+        return voucherService.allocateVouchers(voucherIds, customerId);
+    }
+
+    public int detachOwnerFromAllVouchers(String customerId) {
+        return voucherService.detachOwnerFromAllVouchers(customerId);
+    }
+
     public void deleteVoucher(String voucherId) {
         voucherService.deleteVoucher(voucherId);
     }
@@ -0,0 +1,86 @@
+package org.prgrms.java.controller.api;
+
+import org.prgrms.java.repository.customer.CachingCustomerRepository;
+import org.prgrms.java.repository.customer.CustomerRepository;
+import org.prgrms.java.repository.customer.FileCustomerRepository;
+import org.prgrms.java.repository.support.BatchWriter;
+import org.prgrms.java.repository.support.EntityCache;
+import org.prgrms.java.repository.support.QueryMetrics;
+import org.prgrms.java.repository.support.ReplicaLagMonitor;
+import org.prgrms.java.repository.voucher.CachingVoucherRepository;
+import org.prgrms.java.repository.voucher.FileVoucherRepository;
+import org.prgrms.java.repository.voucher.MemoryVoucherRepository;
+import org.prgrms.java.repository.voucher.VoucherRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/metrics/")
+public class MetricsRestController {
+    private final QueryMetrics queryMetrics;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final VoucherRepository voucherRepository;
+    private final CustomerRepository customerRepository;
+    private final ObjectProvider<FileVoucherRepository> fileVoucherRepository;
+    private final ObjectProvider<FileCustomerRepository> fileCustomerRepository;
+    private final ObjectProvider<MemoryVoucherRepository> memoryVoucherRepository;
+
+    public MetricsRestController(QueryMetrics queryMetrics, ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 VoucherRepository voucherRepository, CustomerRepository customerRepository,
+                                 ObjectProvider<FileVoucherRepository> fileVoucherRepository, ObjectProvider<FileCustomerRepository> fileCustomerRepository,
+                                 ObjectProvider<MemoryVoucherRepository> memoryVoucherRepository) {
+        this.queryMetrics = queryMetrics;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.voucherRepository = voucherRepository;
+        this.customerRepository = customerRepository;
+        this.fileVoucherRepository = fileVoucherRepository;
+        this.fileCustomerRepository = fileCustomerRepository;
+        this.memoryVoucherRepository = memoryVoucherRepository;
+    }
+
+    @GetMapping("jdbc")
+    @ResponseBody
+    public ResponseEntity<QueryMetrics.Snapshot> findJdbcMetrics() {
+        return ResponseEntity.ok(queryMetrics.getSnapshot());
+    }
+
+    @GetMapping("replica")
+    @ResponseBody
+    public ResponseEntity<ReplicaLagMonitor.Stats> findReplicaStatus() {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(monitor.getStats());
+    }
+
+    @GetMapping("cache")
+    @ResponseBody
+    public ResponseEntity<List<EntityCache.Stats>> findCacheStats() {
+        List<EntityCache.Stats> stats = new ArrayList<>();
+        if (voucherRepository instanceof CachingVoucherRepository cachingVoucherRepository) {
+            stats.add(cachingVoucherRepository.getCacheStats());
+        }
+        if (customerRepository instanceof CachingCustomerRepository cachingCustomerRepository) {
+            stats.add(cachingCustomerRepository.getCacheStats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("writers")
+    @ResponseBody
+    public ResponseEntity<List<BatchWriter.Metrics>> findWriterMetrics() {
+        List<BatchWriter.Metrics> metrics = new ArrayList<>();
+        fileVoucherRepository.ifAvailable(repository -> metrics.add(repository.getWriterMetrics()));
+        fileCustomerRepository.ifAvailable(repository -> metrics.add(repository.getWriterMetrics()));
+        memoryVoucherRepository.ifAvailable(repository -> repository.getWriterMetrics().ifPresent(metrics::add));
+        return ResponseEntity.ok(metrics);
+    }
+}
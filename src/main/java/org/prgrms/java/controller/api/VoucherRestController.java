@@ -2,16 +2,29 @@ package org.prgrms.java.controller.api;
 
 import org.prgrms.java.domain.voucher.CreateVoucherRequest;
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
 import org.prgrms.java.service.VoucherService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/")
 public class VoucherRestController {
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int CURSOR_BYTES = 16;
+    private static final int EXPIRY_CURSOR_BYTES = CURSOR_BYTES + Long.BYTES + Integer.BYTES;
+
     private final VoucherService voucherService;
 
     public VoucherRestController(VoucherService voucherService) {
@@ -20,22 +33,39 @@ public class VoucherRestController {
 
     @GetMapping("vouchers")
     @ResponseBody
-    public ResponseEntity<List<Voucher>> findVouchers(
+    public ResponseEntity<CursorPage<Voucher>> findVouchers(
             @RequestParam(required = false) String owner,
-            @RequestParam(required = false) boolean expired) {
+            @RequestParam(required = false) boolean expired,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new VoucherBadRequestException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        boolean byExpiry = owner == null && expired;
+
+        List<Voucher> vouchers;
         if (owner != null) {
-            return new ResponseEntity<>(voucherService.getVoucherByOwnerId(owner), HttpStatus.OK);
+            vouchers = voucherService.getVoucherPageByOwnerId(owner, decodeCursor(cursor), size + 1);
+        } else if (byExpiry) {
+            vouchers = voucherService.getExpiredVoucherPage(decodeExpiryCursor(cursor), size + 1);
+        } else {
+            vouchers = voucherService.getVoucherPage(decodeCursor(cursor), size + 1);
         }
-        if (expired) {
-            return new ResponseEntity<>(voucherService.getAllExpiredVouchers(), HttpStatus.OK);
+
+        if (vouchers.size() <= size) {
+            return new ResponseEntity<>(new CursorPage<>(vouchers, null), HttpStatus.OK);
         }
-        return new ResponseEntity<>(voucherService.getAllVouchers(), HttpStatus.OK);
+        List<Voucher> page = vouchers.subList(0, size);
+        Voucher last = page.get(size - 1);
+        String nextCursor = byExpiry ? encodeExpiryCursor(VoucherExpiry.of(last)) : encodeCursor(last.getVoucherId());
+        return new ResponseEntity<>(new CursorPage<>(page, nextCursor), HttpStatus.OK);
     }
 
     @GetMapping("voucher/{voucherId}")
     @ResponseBody
-    public ResponseEntity<Voucher> findVoucherById(@PathVariable("voucherId") String voucherId) {
-        return new ResponseEntity<>(voucherService.getVoucherById(voucherId), HttpStatus.OK);
+    public ResponseEntity<Voucher> findVoucherById(@PathVariable("voucherId") String voucherId,
+                                                   @RequestParam(defaultValue = "false") boolean archived) {
+        return new ResponseEntity<>(voucherService.getVoucherById(voucherId, archived), HttpStatus.OK);
     }
 
     @PostMapping("voucher")
@@ -53,4 +83,50 @@ public class VoucherRestController {
         voucherService.deleteVoucher(voucherId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    private static String encodeCursor(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(CURSOR_BYTES);
+        buffer.putLong(lastId.getMostSignificantBits()).putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private static String encodeExpiryCursor(VoucherExpiry last) {
+        ByteBuffer buffer = ByteBuffer.allocate(EXPIRY_CURSOR_BYTES);
+        buffer.putLong(last.getVoucherId().getMostSignificantBits()).putLong(last.getVoucherId().getLeastSignificantBits());
+        buffer.putLong(last.getExpiredAt().toEpochSecond(ZoneOffset.UTC)).putInt(last.getExpiredAt().getNano());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    private static UUID decodeCursor(String cursor) {
+        ByteBuffer buffer = decodeCursorBytes(cursor, CURSOR_BYTES);
+        return (buffer == null) ? null : new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static VoucherExpiry decodeExpiryCursor(String cursor) {
+        ByteBuffer buffer = decodeCursorBytes(cursor, EXPIRY_CURSOR_BYTES);
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            UUID voucherId = new UUID(buffer.getLong(), buffer.getLong());
+            return new VoucherExpiry(voucherId, LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC));
+        } catch (DateTimeException e) {
+            throw new VoucherBadRequestException("올바르지 않은 커서입니다.");
+        }
+    }
+
+    private static ByteBuffer decodeCursorBytes(String cursor, int length) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != length) {
+                throw new VoucherBadRequestException("올바르지 않은 커서입니다.");
+            }
+            return ByteBuffer.wrap(bytes);
+        } catch (IllegalArgumentException e) {
+            throw new VoucherBadRequestException("올바르지 않은 커서입니다.");
+        }
+    }
 }
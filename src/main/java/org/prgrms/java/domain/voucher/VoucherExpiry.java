@@ -0,0 +1,18 @@
+package org.prgrms.java.domain.voucher;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class VoucherExpiry {
+    private final UUID voucherId;
+    private final LocalDateTime expiredAt;
+
+    public static VoucherExpiry of(Voucher voucher) {
+        return new VoucherExpiry(voucher.getVoucherId(), voucher.getExpiredAt());
+    }
+}
@@ -0,0 +1,18 @@
+package org.prgrms.java.domain.voucher;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class VoucherStatus {
+    private final UUID voucherId;
+    private final UUID ownerId;
+    private final boolean used;
+
+    public static VoucherStatus of(Voucher voucher) {
+        return new VoucherStatus(voucher.getVoucherId(), voucher.getOwnerId(), voucher.isUsed());
+    }
+}
@@ -0,0 +1,21 @@
+package org.prgrms.java.domain.voucher;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class VoucherSummary {
+    private final UUID voucherId;
+    private final VoucherType type;
+    private final long amount;
+    private final LocalDateTime expiredAt;
+    private final boolean used;
+
+    public static VoucherSummary of(Voucher voucher) {
+        return new VoucherSummary(voucher.getVoucherId(), voucher.getType(), voucher.getAmount(), voucher.getExpiredAt(), voucher.isUsed());
+    }
+}
@@ -3,11 +3,17 @@ package org.prgrms.java.domain.voucher;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum VoucherType {
     FIXED(1, "FixedAmountVoucher"),
     PERCENT(2, "PercentDiscountVoucher");
 
+    private static final Map<String, VoucherType> BY_TYPE_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(type -> type.typeName, Function.identity()));
+
     private final int id;
     private final String typeName;
 
@@ -24,10 +30,11 @@ public enum VoucherType {
     }
 
     public static VoucherType of(String typeName) {
-        return Arrays.stream(VoucherType.values())
-                .filter(type -> type.typeName.equals(typeName))
-                .findAny()
-                .orElseThrow(() -> new VoucherBadRequestException("잘못된 바우처 타입입니다."));
+        VoucherType type = (typeName == null) ? null : BY_TYPE_NAME.get(typeName);
+        if (type == null) {
+            throw new VoucherBadRequestException("잘못된 바우처 타입입니다.");
+        }
+        return type;
     }
 
     @Override
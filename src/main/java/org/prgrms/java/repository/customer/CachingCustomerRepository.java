@@ -0,0 +1,129 @@
+package org.prgrms.java.repository.customer;
+
+import org.prgrms.java.domain.customer.Customer;
+import org.prgrms.java.repository.support.EntityCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+public class CachingCustomerRepository implements CustomerRepository {
+    private final CustomerRepository delegate;
+    private final EntityCache<Customer> cache;
+
+    public CachingCustomerRepository(CustomerRepository delegate, int MAXIMUM_SIZE, long TTL_MILLIS) {
+        this(delegate, MAXIMUM_SIZE, TTL_MILLIS, () -> true);
+    }
+
+    public CachingCustomerRepository(CustomerRepository delegate, int MAXIMUM_SIZE, long TTL_MILLIS, BooleanSupplier fillable) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("customer", MAXIMUM_SIZE, Duration.ofMillis(TTL_MILLIS), CachingCustomerRepository::copy, fillable);
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return cache.get(customerId, delegate::findById);
+    }
+
+    @Override
+    public Optional<Customer> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Customer> findPage(UUID afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Customer> findPageByBlocked(boolean blocked, UUID afterId, int limit) {
+        return delegate.findPageByBlocked(blocked, afterId, limit);
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        try {
+            return delegate.save(customer);
+        } finally {
+            cache.invalidate(customer.getCustomerId());
+        }
+    }
+
+    @Override
+    public List<Customer> saveAll(Collection<Customer> customers) {
+        try {
+            return delegate.saveAll(customers);
+        } finally {
+            customers.forEach(customer -> cache.invalidate(customer.getCustomerId()));
+        }
+    }
+
+    @Override
+    public Customer update(Customer customer) {
+        try {
+            return delegate.update(customer);
+        } finally {
+            cache.invalidate(customer.getCustomerId());
+        }
+    }
+
+    @Override
+    public List<Customer> updateAll(Collection<Customer> customers) {
+        try {
+            return delegate.updateAll(customers);
+        } finally {
+            customers.forEach(customer -> cache.invalidate(customer.getCustomerId()));
+        }
+    }
+
+    @Override
+    public void delete(UUID customerId) {
+        try {
+            delegate.delete(customerId);
+        } finally {
+            cache.invalidate(customerId);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            delegate.deleteAll();
+        } finally {
+            cache.invalidateAll();
+        }
+    }
+
+    public EntityCache.Stats getCacheStats() {
+        return cache.getStats();
+    }
+
+    private static Customer copy(Customer customer) {
+        return Customer.builder()
+                .customerId(customer.getCustomerId())
+                .name(customer.getName())
+                .email(customer.getEmail())
+                .createdAt(customer.getCreatedAt())
+                .isBlocked(customer.isBlocked())
+                .build();
+    }
+}
@@ -1,15 +1,23 @@
 package org.prgrms.java.repository.customer;
 
 import org.prgrms.java.domain.customer.Customer;
+import org.prgrms.java.repository.support.KeysetIndex;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface CustomerRepository {
 
     Customer save(Customer customer);
 
+    default List<Customer> saveAll(Collection<Customer> customers) {
+        return customers.stream().map(this::save).collect(Collectors.toList());
+    }
+
     Optional<Customer> findById(UUID customerId);
 
     Optional<Customer> findByName(String name);
@@ -18,8 +26,27 @@ public interface CustomerRepository {
 
     List<Customer> findAll();
 
+    default List<Customer> findPage(UUID afterId, int limit) {
+        try (Stream<Customer> customers = streamAll()) {
+            return KeysetIndex.page(customers, Customer::getCustomerId, afterId, limit).collect(Collectors.toList());
+        }
+    }
+
+    default List<Customer> findPageByBlocked(boolean blocked, UUID afterId, int limit) {
+        try (Stream<Customer> customers = streamAll()) {
+            return KeysetIndex.page(customers.filter(customer -> customer.isBlocked() == blocked), Customer::getCustomerId, afterId, limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    Stream<Customer> streamAll();
+
     Customer update(Customer customer);
 
+    default List<Customer> updateAll(Collection<Customer> customers) {
+        return customers.stream().map(this::update).collect(Collectors.toList());
+    }
+
     void delete(UUID customerId);
 
     void deleteAll();
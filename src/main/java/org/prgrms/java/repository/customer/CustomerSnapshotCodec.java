@@ -0,0 +1,40 @@
+package org.prgrms.java.repository.customer;
+
+import org.prgrms.java.domain.customer.Customer;
+import org.prgrms.java.repository.support.SnapshotJournal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+class CustomerSnapshotCodec implements SnapshotJournal.Codec<Customer> {
+    @Override
+    public UUID idOf(Customer customer) {
+        return customer.getCustomerId();
+    }
+
+    @Override
+    public void write(DataOutput output, Customer customer) throws IOException {
+        output.writeLong(customer.getCustomerId().getMostSignificantBits());
+        output.writeLong(customer.getCustomerId().getLeastSignificantBits());
+        output.writeUTF(customer.getName());
+        output.writeUTF(customer.getEmail());
+        output.writeLong(customer.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(customer.getCreatedAt().getNano());
+        output.writeBoolean(customer.isBlocked());
+    }
+
+    @Override
+    public Customer read(DataInput input) throws IOException {
+        return Customer.builder()
+                .customerId(new UUID(input.readLong(), input.readLong()))
+                .name(input.readUTF())
+                .email(input.readUTF())
+                .createdAt(LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC))
+                .isBlocked(input.readBoolean())
+                .build();
+    }
+}
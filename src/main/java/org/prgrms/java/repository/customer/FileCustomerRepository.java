@@ -2,188 +2,388 @@ package org.prgrms.java.repository.customer;
 
 import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
+import org.prgrms.java.exception.notfound.CustomerNotFoundException;
+import org.prgrms.java.repository.support.AppendOnlyLog;
+import org.prgrms.java.repository.support.BatchWriter;
+import org.prgrms.java.repository.support.KeysetIndex;
+import org.prgrms.java.repository.support.SecondaryIndex;
 import org.prgrms.java.service.mapper.CustomerMapper;
+import org.prgrms.java.service.mapper.RecordParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class FileCustomerRepository implements CustomerRepository {
-    private final String DATA_PATH;
-    private final String DATA_NAME_FOR_CUSTOMER;
-    private final String DATA_NAME_FOR_BLACKLIST;
+    private static final String TOMBSTONE = "DELETED";
+    private static final int COMPACTION_THRESHOLD = 1024;
+    private static final int DEFAULT_BATCH_MAX_SIZE = 256;
+
+    private final AppendOnlyLog log;
+    private final BatchWriter<AppendOnlyLog> writer;
+    private final Map<UUID, Long> index = new ConcurrentHashMap<>();
+    private final KeysetIndex keys = new KeysetIndex();
+    private final SecondaryIndex<String> nameIndex = new SecondaryIndex<>();
+    private final SecondaryIndex<String> emailIndex = new SecondaryIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long garbageRecords;
     private final static Logger logger = LoggerFactory.getLogger(FileCustomerRepository.class);
 
-    public FileCustomerRepository(@Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.customer}") String DATA_NAME_FOR_CUSTOMER, @Value("${prgrms.data.name.blacklist}") String DATA_NAME_FOR_BLACKLIST) {
+    public FileCustomerRepository(String DATA_PATH, String DATA_NAME_FOR_CUSTOMER, String DATA_NAME_FOR_BLACKLIST) {
+        this(DATA_PATH, DATA_NAME_FOR_CUSTOMER, DATA_NAME_FOR_BLACKLIST, 0, DEFAULT_BATCH_MAX_SIZE);
+    }
+
+    @Autowired
+    public FileCustomerRepository(@Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.customer}") String DATA_NAME_FOR_CUSTOMER, @Value("${prgrms.data.name.blacklist}") String DATA_NAME_FOR_BLACKLIST,
+                                  @Value("${prgrms.data.batch.window-millis}") long BATCH_WINDOW_MILLIS, @Value("${prgrms.data.batch.max-size}") int BATCH_MAX_SIZE) {
         logger.debug("저장 파일 생성 중...");
-        try {
-            new File(DATA_PATH).mkdirs();
-            new File(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME_FOR_CUSTOMER)).createNewFile();
-            new File(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME_FOR_BLACKLIST)).createNewFile();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        this.log = new AppendOnlyLog(Path.of(DATA_PATH, DATA_NAME_FOR_CUSTOMER));
+        loadIndex();
+        importBlacklist(Path.of(DATA_PATH, DATA_NAME_FOR_BLACKLIST));
+        compactIfNeeded();
 
-        this.DATA_PATH = DATA_PATH;
-        this.DATA_NAME_FOR_CUSTOMER = DATA_NAME_FOR_CUSTOMER;
-        this.DATA_NAME_FOR_BLACKLIST = DATA_NAME_FOR_BLACKLIST;
+        this.writer = new BatchWriter<>(DATA_NAME_FOR_CUSTOMER, Duration.ofMillis(BATCH_WINDOW_MILLIS), BATCH_MAX_SIZE, new BatchWriter.Target<>() {
+            @Override
+            public AppendOnlyLog begin() {
+                lock.writeLock().lock();
+                return log;
+            }
+
+            @Override
+            public void commit(AppendOnlyLog log) {
+                try {
+                    try {
+                        log.sync();
+                    } catch (RuntimeException e) {
+                        rollback(e);
+                        throw e;
+                    }
+                    compactIfNeeded();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
     }
 
     @Override
     public Optional<Customer> findById(UUID customerId) {
-        for (boolean isBlocked: List.of(true, false)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                Optional<String> str = reader.lines()
-                        .filter(line -> line.contains(customerId.toString()))
-                        .findAny();
-                if (str.isPresent()) {
-                    return Optional.of(CustomerMapper.mapToCustomer(str.get()));
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+        lock.readLock().lock();
+        try {
+            Long offset = index.get(customerId);
+            if (offset == null) {
+                return Optional.empty();
             }
+            return Optional.of(CustomerMapper.mapToCustomer(log.read(offset)));
+        } finally {
+            lock.readLock().unlock();
         }
-        return Optional.empty();
     }
 
     @Override
     public Optional<Customer> findByName(String name) {
-        for (boolean isBlocked: List.of(true, false)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                Optional<String> str = reader.lines()
-                        .filter(line -> line.split(",")[1].trim().equals(name))
-                        .findAny();
-                if (str.isPresent()) {
-                    return Optional.of(CustomerMapper.mapToCustomer(str.get()));
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return Optional.empty();
+        return nameIndex.findAny(name).flatMap(this::findById);
     }
 
     @Override
     public Optional<Customer> findByEmail(String email) {
-        for (boolean isBlocked: List.of(true, false)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                Optional<String> str = reader.lines()
-                        .filter(line -> line.split(",")[2].trim().equals(email))
-                        .findAny();
-                if (str.isPresent()) {
-                    return Optional.of(CustomerMapper.mapToCustomer(str.get()));
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return Optional.empty();
+        return emailIndex.findAny(email).flatMap(this::findById);
     }
 
     @Override
     public List<Customer> findAll() {
         List<Customer> customers = new ArrayList<>();
-        for (boolean isBlocked: List.of(true, false)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                customers.addAll(reader.lines()
-                        .map(CustomerMapper::mapToCustomer).toList());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        lock.readLock().lock();
+        try {
+            log.scan((offset, record) -> {
+                if (!isTombstone(record) && Objects.equals(index.get(parseCustomerId(record)), offset)) {
+                    customers.add(CustomerMapper.mapToCustomer(record));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
         }
         return customers;
     }
 
     @Override
-    public Customer save(Customer customer) {
-        if (findById(customer.getCustomerId()).isPresent()) {
-            throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
+    public List<Customer> findPage(UUID afterId, int limit) {
+        return keys.after(afterId)
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Customer> findPageByBlocked(boolean blocked, UUID afterId, int limit) {
+        return keys.after(afterId)
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .filter(customer -> customer.isBlocked() == blocked)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        Stream<AppendOnlyLog.Line> lines;
+        long generation;
+        long end;
+        lock.readLock().lock();
+        try {
+            lines = log.stream();
+            generation = log.generation();
+            end = log.size();
+        } finally {
+            lock.readLock().unlock();
         }
+        Set<UUID> rereadIds = new HashSet<>();
+        return lines
+                .map(line -> findLiveRecord(line, generation, end, rereadIds))
+                .flatMap(Optional::stream)
+                .map(CustomerMapper::mapToCustomer);
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(customer.isBlocked())), true))) {
-            writer.write(customer.toString());
-            writer.newLine();
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private Optional<String> findLiveRecord(AppendOnlyLog.Line line, long generation, long end, Set<UUID> rereadIds) {
+        if (isTombstone(line.record())) {
+            return Optional.empty();
+        }
+        UUID customerId = parseCustomerId(line.record());
+        if (Objects.equals(index.get(customerId), line.offset()) && log.generation() == generation) {
+            return Optional.of(line.record());
         }
-        return customer;
+        lock.readLock().lock();
+        try {
+            Long offset = index.get(customerId);
+            boolean compacted = log.generation() != generation;
+            if (offset == null || (!compacted && offset < end) || !rereadIds.add(customerId)) {
+                return Optional.empty();
+            }
+            return Optional.of(log.read(offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        return writer.submit(log -> {
+            if (index.containsKey(customer.getCustomerId())) {
+                throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
+            }
+            if (emailIndex.findAny(customer.getEmail()).isPresent()) {
+                throw new CustomerBadRequestException("이미 존재하는 이메일입니다.");
+            }
+            index(customer, log.append(customer.toString()));
+            return customer;
+        });
+    }
+
+    @Override
+    public List<Customer> saveAll(Collection<Customer> customers) {
+        List<Customer> batch = List.copyOf(customers);
+        return writer.submit(log -> {
+            Set<UUID> customerIds = new HashSet<>();
+            Set<String> emails = new HashSet<>();
+            for (Customer customer : batch) {
+                if (!customerIds.add(customer.getCustomerId()) || index.containsKey(customer.getCustomerId())) {
+                    throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
+                }
+                if (!emails.add(customer.getEmail()) || emailIndex.findAny(customer.getEmail()).isPresent()) {
+                    throw new CustomerBadRequestException("이미 존재하는 이메일입니다.");
+                }
+            }
+            for (Customer customer : batch) {
+                index(customer, log.append(customer.toString()));
+            }
+            return batch;
+        });
     }
 
     @Override
     public Customer update(Customer customer) {
-        for (boolean isBlocked: List.of(true, false)) {
-            List<String> lines;
-            try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                lines = reader.lines().collect(Collectors.toList());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                for (String line : lines) {
-                    if (line.contains(customer.getCustomerId().toString())) {
-                        writer.write(customer.toString());
-                    } else {
-                        writer.write(line);
-                    }
-                    writer.newLine();
+        return writer.submit(log -> {
+            if (!index.containsKey(customer.getCustomerId())) {
+                throw new CustomerNotFoundException();
+            }
+            if (isEmailTaken(customer.getEmail(), Set.of(customer.getCustomerId()))) {
+                throw new CustomerBadRequestException("이미 존재하는 이메일입니다.");
+            }
+            index(customer, log.append(customer.toString()));
+            garbageRecords++;
+            return customer;
+        });
+    }
+
+    @Override
+    public List<Customer> updateAll(Collection<Customer> customers) {
+        List<Customer> batch = List.copyOf(customers);
+        return writer.submit(log -> {
+            if (!batch.stream().allMatch(customer -> index.containsKey(customer.getCustomerId()))) {
+                throw new CustomerNotFoundException();
+            }
+            Set<UUID> customerIds = batch.stream().map(Customer::getCustomerId).collect(Collectors.toSet());
+            Map<String, UUID> emails = new HashMap<>();
+            for (Customer customer : batch) {
+                UUID claimedBy = emails.putIfAbsent(customer.getEmail(), customer.getCustomerId());
+                if ((claimedBy != null && !claimedBy.equals(customer.getCustomerId())) || isEmailTaken(customer.getEmail(), customerIds)) {
+                    throw new CustomerBadRequestException("이미 존재하는 이메일입니다.");
                 }
-                writer.flush();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
             }
-        }
-        return customer;
+            for (Customer customer : batch) {
+                index(customer, log.append(customer.toString()));
+            }
+            garbageRecords += batch.size();
+            return batch;
+        });
     }
 
     @Override
     public void delete(UUID customerId) {
-        for (boolean isBlocked: List.of(true, false)) {
-            List<String> lines;
-            try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                lines = reader.lines().collect(Collectors.toList());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(isBlocked))))) {
-                for (String line : lines) {
-                    if (!line.contains(customerId.toString())) {
-                        writer.write(line);
-                        writer.newLine();
-                    }
-                }
-                writer.flush();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+        writer.submit(log -> {
+            if (!unindex(customerId)) {
+                return null;
             }
-        }
+            log.append(MessageFormat.format("{0}, {1}", customerId, TOMBSTONE));
+            garbageRecords += 2;
+            return null;
+        });
     }
 
     @Override
     public void deleteAll() {
-        List<String> fileName = new ArrayList<>() {{
-                add(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(true)));
-                add(MessageFormat.format("{0}/{1}", DATA_PATH, getDataName(false)));
-        }};
+        writer.submit(log -> {
+            log.truncate();
+            clearIndex();
+            garbageRecords = 0;
+            return null;
+        });
+    }
+
+    public BatchWriter.Metrics getWriterMetrics() {
+        return writer.getMetrics();
+    }
+
+    @PreDestroy
+    public void close() {
+        writer.close();
+        log.close();
+    }
 
-        fileName.forEach(file -> {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                new FileOutputStream(file).close();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+    // 쓰기 잠금 안에서 호출한다.
+    private void rollback(RuntimeException cause) {
+        try {
+            log.discardPending();
+            loadIndex();
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            logger.error("기록에 실패한 뒤 색인을 다시 만들지 못했습니다.", e);
+        }
+    }
+
+    private void loadIndex() {
+        clearIndex();
+        garbageRecords = 0;
+        log.scan((offset, record) -> {
+            if (isTombstone(record)) {
+                garbageRecords += unindex(parseCustomerId(record)) ? 2 : 1;
+                return;
+            }
+            Customer customer = CustomerMapper.mapToCustomer(record);
+            if (index.containsKey(customer.getCustomerId())) {
+                garbageRecords++;
             }
+            index(customer, offset);
         });
     }
 
-    private String getDataName(boolean isBlocked) {
-        return (isBlocked) ? DATA_NAME_FOR_BLACKLIST : DATA_NAME_FOR_CUSTOMER;
+    private void importBlacklist(Path blacklist) {
+        if (!Files.exists(blacklist)) {
+            return;
+        }
+        try {
+            for (String record : Files.readAllLines(blacklist)) {
+                if (record.isBlank()) {
+                    continue;
+                }
+                Customer customer = CustomerMapper.mapToCustomer(record);
+                if (!index.containsKey(customer.getCustomerId())) {
+                    index(customer, log.append(customer.toString()));
+                }
+            }
+            log.sync();
+            Files.delete(blacklist);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private boolean isEmailTaken(String email, Set<UUID> excludedIds) {
+        return emailIndex.find(email).stream().anyMatch(customerId -> !excludedIds.contains(customerId));
+    }
+
+    private void index(Customer customer, long offset) {
+        index.put(customer.getCustomerId(), offset);
+        keys.add(customer.getCustomerId());
+        nameIndex.put(customer.getCustomerId(), customer.getName());
+        emailIndex.put(customer.getCustomerId(), customer.getEmail());
+    }
+
+    private boolean unindex(UUID customerId) {
+        keys.remove(customerId);
+        nameIndex.remove(customerId);
+        emailIndex.remove(customerId);
+        return index.remove(customerId) != null;
+    }
+
+    private void clearIndex() {
+        index.clear();
+        keys.clear();
+        nameIndex.clear();
+        emailIndex.clear();
+    }
+
+    private void compactIfNeeded() {
+        if (garbageRecords < COMPACTION_THRESHOLD || garbageRecords < index.size()) {
+            return;
+        }
+
+        List<Map.Entry<UUID, Long>> entries = new ArrayList<>(index.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+        long[] newOffsets;
+        try {
+            newOffsets = log.compact(entries.stream().mapToLong(Map.Entry::getValue).toArray());
+        } catch (RuntimeException e) {
+            logger.warn("저장 파일을 정리하지 못했습니다.", e);
+            return;
+        }
+        for (int i = 0; i < newOffsets.length; i++) {
+            index.put(entries.get(i).getKey(), newOffsets[i]);
+        }
+        garbageRecords = 0;
+    }
+
+    private static UUID parseCustomerId(String record) {
+        return new RecordParser(record).nextUuid();
+    }
+
+    private static boolean isTombstone(String record) {
+        return record.endsWith(TOMBSTONE);
     }
 }
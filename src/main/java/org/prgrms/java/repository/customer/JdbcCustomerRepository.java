@@ -2,34 +2,61 @@ package org.prgrms.java.repository.customer;
 
 import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
+import static org.prgrms.java.common.TypeConversionUtils.toBytes;
 import static org.prgrms.java.common.TypeConversionUtils.toUUID;
 
 @Repository
-@Primary
 public class JdbcCustomerRepository implements CustomerRepository {
-    private static final String INSERT_QUERY = "INSERT INTO customers(customer_id, name, email, created_at, is_blocked) VALUES (UUID_TO_BIN(:customerId), :name, :email, :createdAt, :isBlocked)";
-    private static final String FIND_BY_ID_QUERY = "SELECT * FROM customers WHERE customer_id = UUID_TO_BIN(:customerId)";
-    private static final String FIND_BY_NAME_QUERY = "SELECT * FROM customers WHERE name = :name";
-    private static final String FIND_BY_EMAIL_QUERY = "SELECT * FROM customers WHERE email = :email";
-    private static final String FIND_ALL_QUERY = "SELECT * FROM customers";
-    private static final String UPDATE_QUERY = "UPDATE customers SET name = :name, email = :email, is_blocked = :isBlocked WHERE customer_id = UUID_TO_BIN(:customerId)";
-    private static final String DELETE_QUERY = "DELETE FROM customers WHERE customer_id = UUID_TO_BIN(:customerId)";
+    // 행 매퍼는 열 이름 대신 이 순서대로 읽는다. 열을 바꾸면 매퍼도 함께 바꿔야 한다.
+    private static final String CUSTOMER_COLUMNS = "customer_id, name, email, created_at, is_blocked";
+
+    private static final String INSERT_QUERY = "INSERT INTO customers(" + CUSTOMER_COLUMNS + ") VALUES (:customerId, :name, :email, :createdAt, :isBlocked)";
+    private static final String FIND_BY_ID_QUERY = "SELECT " + CUSTOMER_COLUMNS + " FROM customers WHERE customer_id = :customerId";
+    private static final String FIND_BY_NAME_QUERY = "SELECT " + CUSTOMER_COLUMNS + " FROM customers WHERE name = :name";
+    private static final String FIND_BY_EMAIL_QUERY = "SELECT " + CUSTOMER_COLUMNS + " FROM customers WHERE email = :email";
+    private static final String FIND_ALL_QUERY = "SELECT " + CUSTOMER_COLUMNS + " FROM customers";
+    private static final String FIND_PAGE_QUERY = "SELECT " + CUSTOMER_COLUMNS + " FROM customers WHERE customer_id > :afterId ORDER BY customer_id LIMIT :limit";
+    private static final String FIND_PAGE_BY_BLOCKED_QUERY = "SELECT " + CUSTOMER_COLUMNS + " FROM customers WHERE is_blocked = :isBlocked AND customer_id > :afterId ORDER BY customer_id LIMIT :limit";
+    private static final String UPDATE_QUERY = "UPDATE customers SET name = :name, email = :email, is_blocked = :isBlocked WHERE customer_id = :customerId";
+    private static final String DELETE_QUERY = "DELETE FROM customers WHERE customer_id = :customerId";
     private static final String DELETE_ALL_ROWS_QUERY = "DELETE FROM customers";
 
+    private static final UUID FIRST_PAGE_AFTER_ID = new UUID(0, 0);
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+    private final int batchSize;
 
     public JdbcCustomerRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this(namedParameterJdbcTemplate, DEFAULT_STREAM_FETCH_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    @Autowired
+    public JdbcCustomerRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, @Value("${prgrms.jdbc.stream-fetch-size}") int STREAM_FETCH_SIZE, @Value("${prgrms.jdbc.batch-size}") int BATCH_SIZE) {
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.batchSize = BATCH_SIZE;
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(namedParameterJdbcTemplate.getJdbcTemplate().getDataSource());
+        jdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
     @Override
@@ -37,7 +64,7 @@ public class JdbcCustomerRepository implements CustomerRepository {
         try {
             return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(
                     FIND_BY_ID_QUERY,
-                    Collections.singletonMap("customerId", customerId.toString().getBytes()),
+                    Collections.singletonMap("customerId", toBytes(customerId)),
                     mapToCustomer));
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
@@ -73,6 +100,23 @@ public class JdbcCustomerRepository implements CustomerRepository {
         return namedParameterJdbcTemplate.query(FIND_ALL_QUERY, Collections.emptyMap(), mapToCustomer);
     }
 
+    @Override
+    public List<Customer> findPage(UUID afterId, int limit) {
+        return namedParameterJdbcTemplate.query(FIND_PAGE_QUERY, toPageParamMap(afterId, limit), mapToCustomer);
+    }
+
+    @Override
+    public List<Customer> findPageByBlocked(boolean blocked, UUID afterId, int limit) {
+        Map<String, Object> paramMap = toPageParamMap(afterId, limit);
+        paramMap.put("isBlocked", blocked);
+        return namedParameterJdbcTemplate.query(FIND_PAGE_BY_BLOCKED_QUERY, paramMap, mapToCustomer);
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        return streamingJdbcTemplate.queryForStream(FIND_ALL_QUERY, Collections.emptyMap(), mapToCustomer);
+    }
+
     @Override
     public Customer save(Customer customer) {
         try {
@@ -95,9 +139,27 @@ public class JdbcCustomerRepository implements CustomerRepository {
         return customer;
     }
 
+    @Override
+    public List<Customer> saveAll(Collection<Customer> customers) {
+        List<Customer> batch = List.copyOf(customers);
+        try {
+            executeBatch(INSERT_QUERY, batch, "사용자 생성 과정에서 문제가 발생했습니다.");
+            return batch;
+        } catch (DuplicateKeyException e) {
+            throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
+        }
+    }
+
+    @Override
+    public List<Customer> updateAll(Collection<Customer> customers) {
+        List<Customer> batch = List.copyOf(customers);
+        executeBatch(UPDATE_QUERY, batch, "사용자 수정 과정에서 문제가 발생했습니다.");
+        return batch;
+    }
+
     @Override
     public void delete(UUID customerId) {
-        int result = namedParameterJdbcTemplate.update(DELETE_QUERY, Collections.singletonMap("customerId", customerId.toString().getBytes()));
+        int result = namedParameterJdbcTemplate.update(DELETE_QUERY, Collections.singletonMap("customerId", toBytes(customerId)));
         if (result != 1) {
             throw new CustomerBadRequestException("사용자 삭제 과정에서 문제가 발생했습니다.");
         }
@@ -109,11 +171,11 @@ public class JdbcCustomerRepository implements CustomerRepository {
     }
 
     private static final RowMapper<Customer> mapToCustomer = (resultSet, rowNum) -> {
-        UUID customerId = toUUID(resultSet.getBytes("customer_id"));
-        String name = resultSet.getString("name");
-        String email = resultSet.getString("email");
-        LocalDateTime createdAt = resultSet.getTimestamp("created_at").toLocalDateTime();
-        boolean isBlocked = resultSet.getBoolean("is_blocked");
+        UUID customerId = toUUID(resultSet.getBytes(1));
+        String name = resultSet.getString(2);
+        String email = resultSet.getString(3);
+        LocalDateTime createdAt = resultSet.getTimestamp(4).toLocalDateTime();
+        boolean isBlocked = resultSet.getBoolean(5);
         return Customer.builder()
                 .customerId(customerId)
                 .name(name)
@@ -123,9 +185,29 @@ public class JdbcCustomerRepository implements CustomerRepository {
                 .build();
     };
 
+    private void executeBatch(String query, List<Customer> batch, String failureMessage) {
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            SqlParameterSource[] parameters = batch.subList(from, Math.min(from + batchSize, batch.size())).stream()
+                    .map(entity -> new MapSqlParameterSource(toParamMap(entity)))
+                    .toArray(SqlParameterSource[]::new);
+            for (int result : namedParameterJdbcTemplate.batchUpdate(query, parameters)) {
+                if (result != 1 && result != Statement.SUCCESS_NO_INFO) {
+                    throw new CustomerBadRequestException(failureMessage);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> toPageParamMap(UUID afterId, int limit) {
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("afterId", toBytes((afterId == null) ? FIRST_PAGE_AFTER_ID : afterId));
+        paramMap.put("limit", limit);
+        return paramMap;
+    }
+
     private static Map<String, Object> toParamMap(Customer customer) {
         return new HashMap<>() {{
-            put("customerId", customer.getCustomerId().toString().getBytes());
+            put("customerId", toBytes(customer.getCustomerId()));
             put("name", customer.getName());
             put("email", customer.getEmail());
             put("createdAt", customer.getCreatedAt());
@@ -3,14 +3,52 @@ package org.prgrms.java.repository.customer;
 import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
 import org.prgrms.java.exception.notfound.CustomerNotFoundException;
+import org.prgrms.java.repository.support.KeysetIndex;
+import org.prgrms.java.repository.support.SecondaryIndex;
+import org.prgrms.java.repository.support.SnapshotJournal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class MemoryCustomerRepository implements CustomerRepository {
+    private static final int DEFAULT_BATCH_MAX_SIZE = 256;
+
     private final Map<UUID, Customer> storage = new ConcurrentHashMap<>();
+    private final KeysetIndex keys = new KeysetIndex();
+    private final SecondaryIndex<String> nameIndex = new SecondaryIndex<>();
+    private final SecondaryIndex<String> emailIndex = new SecondaryIndex<>();
+    private final SnapshotJournal<Customer> journal;
+
+    public MemoryCustomerRepository() {
+        this(false, null, null, 0, DEFAULT_BATCH_MAX_SIZE, 0);
+    }
+
+    public MemoryCustomerRepository(String DATA_PATH, String DATA_NAME, long SNAPSHOT_INTERVAL) {
+        this(true, DATA_PATH, DATA_NAME, 0, DEFAULT_BATCH_MAX_SIZE, SNAPSHOT_INTERVAL);
+    }
+
+    @Autowired
+    public MemoryCustomerRepository(@Value("${prgrms.memory.persistence.enabled}") boolean PERSISTENCE_ENABLED, @Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.customer-memory}") String DATA_NAME,
+                                    @Value("${prgrms.data.batch.window-millis}") long BATCH_WINDOW_MILLIS, @Value("${prgrms.data.batch.max-size}") int BATCH_MAX_SIZE,
+                                    @Value("${prgrms.memory.persistence.snapshot-interval}") long SNAPSHOT_INTERVAL) {
+        if (PERSISTENCE_ENABLED) {
+            this.journal = new SnapshotJournal<>(Path.of(DATA_PATH), DATA_NAME, new CustomerSnapshotCodec(), Duration.ofMillis(BATCH_WINDOW_MILLIS), BATCH_MAX_SIZE, SNAPSHOT_INTERVAL, storage::values);
+            journal.recover(this::store, this::forget);
+        } else {
+            this.journal = null;
+        }
+    }
 
     @Override
     public Optional<Customer> findById(UUID customerId) {
@@ -19,16 +57,12 @@ public class MemoryCustomerRepository implements CustomerRepository {
 
     @Override
     public Optional<Customer> findByName(String name) {
-        return storage.values().stream()
-                .filter(customer -> customer.getName().equals(name))
-                .findAny();
+        return nameIndex.findAny(name).flatMap(this::findById);
     }
 
     @Override
     public Optional<Customer> findByEmail(String email) {
-        return storage.values().stream()
-                .filter(customer -> customer.getEmail().equals(email))
-                .findAny();
+        return emailIndex.findAny(email).flatMap(this::findById);
     }
 
     @Override
@@ -36,34 +70,158 @@ public class MemoryCustomerRepository implements CustomerRepository {
         return List.copyOf(storage.values());
     }
 
+    @Override
+    public List<Customer> findPage(UUID afterId, int limit) {
+        return keys.after(afterId)
+                .map(storage::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Customer> findPageByBlocked(boolean blocked, UUID afterId, int limit) {
+        return keys.after(afterId)
+                .map(storage::get)
+                .filter(customer -> customer != null && customer.isBlocked() == blocked)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Customer> streamAll() {
+        return storage.values().stream();
+    }
+
     @Override
     public Customer save(Customer customer) {
-        if (findById(customer.getCustomerId()).isPresent()) {
-            throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
-        }
-        storage.put(customer.getCustomerId(), customer);
-        return storage.get(customer.getCustomerId());
+        return persist(customer, () -> storage.compute(customer.getCustomerId(), (customerId, existing) -> {
+            if (existing != null) {
+                throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
+            }
+            index(customer);
+            return customer;
+        }));
+    }
+
+    @Override
+    public List<Customer> saveAll(Collection<Customer> customers) {
+        List<Customer> batch = List.copyOf(customers);
+        return persistAll(batch, () -> {
+            List<Customer> inserted = new ArrayList<>(batch.size());
+            for (Customer customer : batch) {
+                if (storage.putIfAbsent(customer.getCustomerId(), customer) != null) {
+                    inserted.forEach(rollback -> forget(rollback.getCustomerId()));
+                    throw new CustomerBadRequestException("이미 존재하는 아이디입니다.");
+                }
+                index(customer);
+                inserted.add(customer);
+            }
+            return batch;
+        });
     }
 
     @Override
     public Customer update(Customer customer) {
-        if (findById(customer.getCustomerId()).isEmpty()) {
-            throw new CustomerNotFoundException();
-        }
-        storage.put(customer.getCustomerId(), customer);
-        return storage.get(customer.getCustomerId());
+        return persist(customer, () -> {
+            Customer updated = storage.computeIfPresent(customer.getCustomerId(), (customerId, existing) -> {
+                index(customer);
+                return customer;
+            });
+            if (updated == null) {
+                throw new CustomerNotFoundException();
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public List<Customer> updateAll(Collection<Customer> customers) {
+        List<Customer> batch = List.copyOf(customers);
+        return persistAll(batch, () -> {
+            if (!batch.stream().allMatch(customer -> storage.containsKey(customer.getCustomerId()))) {
+                throw new CustomerNotFoundException();
+            }
+            for (Customer customer : batch) {
+                storage.computeIfPresent(customer.getCustomerId(), (customerId, existing) -> {
+                    index(customer);
+                    return customer;
+                });
+            }
+            return batch;
+        });
     }
 
     @Override
     public void delete(UUID customerId) {
-        if (findById(customerId).isEmpty()) {
-            throw new CustomerNotFoundException();
+        Runnable mutation = () -> {
+            AtomicBoolean removed = new AtomicBoolean();
+            storage.computeIfPresent(customerId, (id, existing) -> {
+                unindex(id);
+                removed.set(true);
+                return null;
+            });
+            if (!removed.get()) {
+                throw new CustomerNotFoundException();
+            }
+        };
+        if (journal == null) {
+            mutation.run();
+        } else {
+            journal.delete(customerId, mutation);
         }
-        storage.remove(customerId);
     }
 
     @Override
     public void deleteAll() {
+        if (journal == null) {
+            reset();
+        } else {
+            journal.clear(this::reset);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private <R> R persist(Customer customer, Supplier<R> mutation) {
+        return (journal == null) ? mutation.get() : journal.put(customer, mutation);
+    }
+
+    private <R> R persistAll(Collection<Customer> customers, Supplier<R> mutation) {
+        return (journal == null) ? mutation.get() : journal.putAll(customers, mutation);
+    }
+
+    private void store(Customer customer) {
+        storage.put(customer.getCustomerId(), customer);
+        index(customer);
+    }
+
+    private void forget(UUID customerId) {
+        storage.remove(customerId);
+        unindex(customerId);
+    }
+
+    private void index(Customer customer) {
+        keys.add(customer.getCustomerId());
+        nameIndex.put(customer.getCustomerId(), customer.getName());
+        emailIndex.put(customer.getCustomerId(), customer.getEmail());
+    }
+
+    private void unindex(UUID customerId) {
+        keys.remove(customerId);
+        nameIndex.remove(customerId);
+        emailIndex.remove(customerId);
+    }
+
+    private void reset() {
         storage.clear();
+        keys.clear();
+        nameIndex.clear();
+        emailIndex.clear();
     }
 }
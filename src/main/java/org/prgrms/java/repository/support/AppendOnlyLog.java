@@ -0,0 +1,415 @@
+package org.prgrms.java.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class AppendOnlyLog implements AutoCloseable {
+    private static final byte NEW_LINE = '\n';
+    private static final int READ_CHUNK_SIZE = 256;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final PendingBuffer pending = new PendingBuffer();
+    private FileChannel channel;
+    private long size;
+    private volatile long generation;
+    private volatile long truncations;
+    private final static Logger logger = LoggerFactory.getLogger(AppendOnlyLog.class);
+
+    public AppendOnlyLog(Path path) {
+        this.path = path;
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.channel = open(path);
+            this.size = recover();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public long append(String record) {
+        byte[] bytes = (record + (char) NEW_LINE).getBytes(StandardCharsets.UTF_8);
+        long offset = size;
+        pending.write(bytes, 0, bytes.length);
+        size += bytes.length;
+        return offset;
+    }
+
+    public void flush() {
+        if (pending.size() == 0) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(pending.toByteArray());
+            long position = size - buffer.remaining();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            pending.reset();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void sync() {
+        flush();
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void discardPending() {
+        long flushed = size - pending.size();
+        pending.reset();
+        size = flushed;
+        try {
+            channel.truncate(flushed);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public String read(long offset) {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(READ_CHUNK_SIZE);
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        long position = offset;
+        try {
+            while (position < size) {
+                buffer.clear();
+                int read = readAt(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                byte[] chunk = buffer.array();
+                for (int i = 0; i < read; i++) {
+                    if (chunk[i] == NEW_LINE) {
+                        line.write(chunk, 0, i);
+                        return decode(line.toByteArray());
+                    }
+                }
+                line.write(chunk, 0, read);
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return decode(line.toByteArray());
+    }
+
+    public void scan(RecordConsumer consumer) {
+        scan(0, size, consumer);
+    }
+
+    public void scan(long from, long to, RecordConsumer consumer) {
+        Cursor cursor = new Cursor(this::readAt, from, to, size);
+        while (cursor.advance()) {
+            consumer.accept(cursor.offset, cursor.record);
+        }
+    }
+
+    public Stream<Line> stream() {
+        long end = size - pending.size();
+        FileChannel source;
+        try {
+            source = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        long openedTruncations = truncations;
+        Cursor cursor = new Cursor(source::read, 0, end, end);
+        Iterator<Line> iterator = new Iterator<>() {
+            private Line next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    if (truncations != openedTruncations) {
+                        throw new ConcurrentModificationException("Log was truncated while streaming.");
+                    }
+                    if (cursor.advance()) {
+                        next = new Line(cursor.offset, cursor.record);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Line next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Line line = next;
+                next = null;
+                return line;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    public long alignToRecord(long position) {
+        if (position <= 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        long cursor = position - 1;
+        try {
+            while (cursor < size) {
+                buffer.clear();
+                int read = readAt(buffer, cursor);
+                if (read <= 0) {
+                    break;
+                }
+                byte[] chunk = buffer.array();
+                for (int i = 0; i < read; i++) {
+                    if (chunk[i] == NEW_LINE) {
+                        return cursor + i + 1;
+                    }
+                }
+                cursor += read;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return size;
+    }
+
+    public long[] compact(long[] liveOffsets) {
+        if (pending.size() > 0) {
+            throw new IllegalStateException("Pending records must be written before compaction.");
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        long[] newOffsets = new long[liveOffsets.length];
+        try (FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            for (int i = 0; i < liveOffsets.length; i++) {
+                ByteBuffer record = ByteBuffer.wrap((read(liveOffsets[i]) + (char) NEW_LINE).getBytes(StandardCharsets.UTF_8));
+                newOffsets[i] = position;
+                while (record.hasRemaining()) {
+                    position += target.write(record, position);
+                }
+            }
+            target.force(false);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            FileChannel compacted = open(path);
+            channel.close();
+            channel = compacted;
+            size = channel.size();
+            generation++;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return newOffsets;
+    }
+
+    public void truncate() {
+        try {
+            pending.reset();
+            channel.truncate(0);
+            size = 0;
+            generation++;
+            truncations++;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private long recover() throws IOException {
+        long fileSize = channel.size();
+        long end = lastRecordEnd(fileSize);
+        if (end < fileSize) {
+            logger.warn("{} 의 끝에 완성되지 않은 레코드 {}바이트를 잘라 냅니다.", path, fileSize - end);
+            channel.truncate(end);
+            channel.force(false);
+        }
+        return end;
+    }
+
+    private long lastRecordEnd(long fileSize) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        long end = fileSize;
+        while (end > 0) {
+            int length = (int) Math.min(READ_CHUNK_SIZE, end);
+            long start = end - length;
+            buffer.clear().limit(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("로그 파일이 예상보다 짧습니다.");
+                }
+            }
+            byte[] chunk = buffer.array();
+            for (int i = length - 1; i >= 0; i--) {
+                if (chunk[i] == NEW_LINE) {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private int readAt(ByteBuffer buffer, long position) throws IOException {
+        long flushed = size - pending.size();
+        if (position >= flushed) {
+            return pending.copyTo(buffer, (int) (position - flushed));
+        }
+        if (buffer.remaining() > flushed - position) {
+            buffer.limit(buffer.position() + (int) (flushed - position));
+        }
+        return channel.read(buffer, position);
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static String decode(byte[] bytes) {
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(long offset, String record);
+    }
+
+    public record Line(long offset, String record) {
+    }
+
+    @FunctionalInterface
+    private interface Source {
+        int read(ByteBuffer buffer, long position) throws IOException;
+    }
+
+    private static class PendingBuffer extends ByteArrayOutputStream {
+        private int copyTo(ByteBuffer buffer, int from) {
+            if (from >= count) {
+                return -1;
+            }
+            int length = Math.min(buffer.remaining(), count - from);
+            buffer.put(buf, from, length);
+            return length;
+        }
+    }
+
+    private static class Cursor {
+        private final Source source;
+        private final long to;
+        private final long end;
+        private final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        private final ByteArrayOutputStream carry = new ByteArrayOutputStream();
+        private long position;
+        private long chunkStart;
+        private long lineStart;
+        private int index;
+        private int limit;
+        private long offset;
+        private String record;
+
+        private Cursor(Source source, long from, long to, long end) {
+            this.source = source;
+            this.to = to;
+            this.end = end;
+            this.position = from;
+            this.lineStart = from;
+        }
+
+        private boolean advance() {
+            try {
+                while (lineStart < to) {
+                    if (index == limit && !fill()) {
+                        return false;
+                    }
+                    byte[] chunk = buffer.array();
+                    int start = index;
+                    while (index < limit && chunk[index] != NEW_LINE) {
+                        index++;
+                    }
+                    carry.write(chunk, start, index - start);
+                    if (index == limit) {
+                        continue;
+                    }
+                    index++;
+                    long recordStart = lineStart;
+                    lineStart = chunkStart + index;
+                    if (carry.size() > 0) {
+                        offset = recordStart;
+                        record = decode(carry.toByteArray());
+                        carry.reset();
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private boolean fill() throws IOException {
+            if (position >= end) {
+                return false;
+            }
+            buffer.clear();
+            buffer.limit((int) Math.min(SCAN_BUFFER_SIZE, end - position));
+            int read = source.read(buffer, position);
+            if (read <= 0) {
+                return false;
+            }
+            chunkStart = position;
+            position += read;
+            index = 0;
+            limit = read;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package org.prgrms.java.repository.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class BatchWriter<S> implements AutoCloseable {
+    private final String name;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Target<S> target;
+    private final BlockingQueue<PendingWrite<S, ?>> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private final PendingWrite<S, Void> closeSignal = new PendingWrite<>(state -> null);
+    private boolean running = true;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong mutations = new AtomicLong();
+    private final AtomicLong maxObservedBatchSize = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+
+    public BatchWriter(String name, Duration window, int maxBatchSize, Target<S> target) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive.");
+        }
+        this.name = name;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.target = target;
+        this.writerThread = new Thread(this::run, "batch-writer-" + name);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public <R> R submit(Function<S, R> mutation) {
+        if (Thread.currentThread() == writerThread) {
+            throw new IllegalStateException("Nested submit from the writer thread would deadlock.");
+        }
+
+        PendingWrite<S, R> pendingWrite = new PendingWrite<>(mutation);
+        synchronized (this) {
+            if (!running) {
+                throw new IllegalStateException(name + " writer is closed.");
+            }
+            queue.add(pendingWrite);
+        }
+        try {
+            return pendingWrite.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public Metrics getMetrics() {
+        long batchCount = batches.get();
+        return new Metrics(
+                name,
+                batchCount,
+                mutations.get(),
+                maxObservedBatchSize.get(),
+                Duration.ofNanos(lastFlushNanos.get()),
+                Duration.ofNanos(batchCount == 0 ? 0 : totalFlushNanos.get() / batchCount),
+                Duration.ofNanos(maxFlushNanos.get()));
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            queue.add(closeSignal);
+        }
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<PendingWrite<S, ?>> batch = new ArrayList<>(maxBatchSize);
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+                collect(batch);
+            } catch (InterruptedException e) {
+                closing = true;
+            }
+            closing |= batch.remove(closeSignal);
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+
+        queue.drainTo(batch);
+        batch.forEach(pendingWrite -> pendingWrite.result.completeExceptionally(new IllegalStateException(name + " writer is closed.")));
+    }
+
+    private void collect(List<PendingWrite<S, ?>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingWrite<S, ?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingWrite<S, ?>> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            S state = target.begin();
+            try {
+                batch.forEach(pendingWrite -> pendingWrite.apply(state));
+            } finally {
+                target.commit(state);
+            }
+            batch.forEach(PendingWrite::complete);
+        } catch (RuntimeException | Error e) {
+            batch.forEach(pendingWrite -> pendingWrite.result.completeExceptionally(e));
+        }
+        record(batch.size(), System.nanoTime() - startedAt);
+    }
+
+    private void record(int batchSize, long flushNanos) {
+        batches.incrementAndGet();
+        mutations.addAndGet(batchSize);
+        maxObservedBatchSize.accumulateAndGet(batchSize, Math::max);
+        totalFlushNanos.addAndGet(flushNanos);
+        maxFlushNanos.accumulateAndGet(flushNanos, Math::max);
+        lastFlushNanos.set(flushNanos);
+    }
+
+    public interface Target<S> {
+        S begin();
+
+        void commit(S state);
+    }
+
+    public static class Metrics {
+        private final String name;
+        private final long batches;
+        private final long mutations;
+        private final long maxBatchSize;
+        private final Duration lastFlushLatency;
+        private final Duration averageFlushLatency;
+        private final Duration maxFlushLatency;
+
+        public Metrics(String name, long batches, long mutations, long maxBatchSize, Duration lastFlushLatency, Duration averageFlushLatency, Duration maxFlushLatency) {
+            this.name = name;
+            this.batches = batches;
+            this.mutations = mutations;
+            this.maxBatchSize = maxBatchSize;
+            this.lastFlushLatency = lastFlushLatency;
+            this.averageFlushLatency = averageFlushLatency;
+            this.maxFlushLatency = maxFlushLatency;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public long getMutations() {
+            return mutations;
+        }
+
+        public double getAverageBatchSize() {
+            return batches == 0 ? 0 : (double) mutations / batches;
+        }
+
+        public long getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public Duration getLastFlushLatency() {
+            return lastFlushLatency;
+        }
+
+        public Duration getAverageFlushLatency() {
+            return averageFlushLatency;
+        }
+
+        public Duration getMaxFlushLatency() {
+            return maxFlushLatency;
+        }
+    }
+
+    private static class PendingWrite<S, R> {
+        private final Function<S, R> mutation;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private R value;
+        private Throwable failure;
+
+        private PendingWrite(Function<S, R> mutation) {
+            this.mutation = mutation;
+        }
+
+        private void apply(S state) {
+            try {
+                value = mutation.apply(state);
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
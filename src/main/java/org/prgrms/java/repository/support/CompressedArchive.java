@@ -0,0 +1,165 @@
+package org.prgrms.java.repository.support;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class CompressedArchive implements AutoCloseable {
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final char NEW_LINE = '\n';
+
+    private final FileChannel channel;
+    private final Function<String, UUID> keyOf;
+    private final Map<UUID, Long> frames = new HashMap<>();
+    private long size;
+
+    public CompressedArchive(Path path, Function<String, UUID> keyOf) {
+        this.keyOf = keyOf;
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.size = recover();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized void append(List<String> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] compressed = compress(records);
+            ByteBuffer buffer = ByteBuffer.allocate(LENGTH_BYTES + compressed.length)
+                    .putInt(compressed.length)
+                    .put(compressed)
+                    .flip();
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+            for (String record : records) {
+                frames.put(keyOf.apply(record), size);
+            }
+            size = position;
+        } catch (IOException e) {
+            truncateQuietly(size);
+            throw new RuntimeException(e);
+        }
+    }
+
+    public synchronized Optional<String> find(UUID key) {
+        Long position = frames.get(key);
+        if (position == null) {
+            return Optional.empty();
+        }
+        try {
+            String found = null;
+            for (String record : readFrame(position)) {
+                if (keyOf.apply(record).equals(key)) {
+                    found = record;
+                }
+            }
+            return Optional.ofNullable(found);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private long recover() throws IOException {
+        long fileSize = channel.size();
+        long position = 0;
+        while (position + LENGTH_BYTES <= fileSize) {
+            int length = readLength(position);
+            if (length < 0 || position + LENGTH_BYTES + length > fileSize) {
+                break;
+            }
+            for (String record : readFrame(position)) {
+                frames.put(keyOf.apply(record), position);
+            }
+            position += LENGTH_BYTES + length;
+        }
+        if (position < fileSize) {
+            channel.truncate(position);
+        }
+        return position;
+    }
+
+    private List<String> readFrame(long position) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(readLength(position));
+        readFully(frame, position + LENGTH_BYTES);
+        List<String> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(frame.array())), StandardCharsets.UTF_8))) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private int readLength(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_BYTES);
+        readFully(buffer, position);
+        return buffer.flip().getInt();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("보관 파일이 예상보다 짧습니다.");
+            }
+            position += read;
+        }
+    }
+
+    private void truncateQuietly(long position) {
+        try {
+            channel.truncate(position);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static byte[] compress(List<String> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (String record : records) {
+                gzip.write((record + NEW_LINE).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,229 @@
+package org.prgrms.java.repository.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public class EntityCache<V> {
+    private static final int STAMP_STRIPES = 64;
+
+    private final String name;
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final UnaryOperator<V> copier;
+    private final BooleanSupplier fillable;
+    private final Map<UUID, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<V>> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedEntries = new AtomicInteger();
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public EntityCache(String name, int maximumSize, Duration timeToLive, UnaryOperator<V> copier, BooleanSupplier fillable) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.copier = copier;
+        this.fillable = fillable;
+    }
+
+    public Optional<V> get(UUID id, Function<UUID, Optional<V>> loader) {
+        while (true) {
+            Entry<V> entry = entries.get(id);
+            if (entry != null) {
+                if (entry.isExpired()) {
+                    if (entries.remove(id, entry)) {
+                        evictions.increment();
+                    }
+                    continue;
+                }
+                hits.increment();
+                entry.referenced = true;
+                return join(entry).map(copier);
+            }
+
+            Entry<V> created = new Entry<>(id);
+            if (entries.putIfAbsent(id, created) != null) {
+                continue;
+            }
+            misses.increment();
+            load(created, loader);
+            return join(created).map(copier);
+        }
+    }
+
+    public void invalidate(UUID id) {
+        evict(id);
+        afterTransaction(() -> evict(id));
+    }
+
+    public void invalidateAll() {
+        evictAll();
+        afterTransaction(this::evictAll);
+    }
+
+    public Stats getStats() {
+        return new Stats(name, entries.size(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private void load(Entry<V> entry, Function<UUID, Optional<V>> loader) {
+        long stamp = stamps.get(stripeOf(entry.id));
+        boolean fill = fillable.getAsBoolean() && !isWriteTransactionActive();
+        Optional<V> value;
+        try {
+            value = loader.apply(entry.id).map(copier);
+        } catch (RuntimeException e) {
+            entries.remove(entry.id, entry);
+            entry.value.completeExceptionally(e);
+            return;
+        }
+        fill = fill && fillable.getAsBoolean() && stamps.get(stripeOf(entry.id)) == stamp;
+
+        entry.expiresAt = System.nanoTime() + timeToLiveNanos;
+        entry.value.complete(value);
+        if (value.isEmpty() || !fill) {
+            entries.remove(entry.id, entry);
+            return;
+        }
+        evictionQueue.offer(entry);
+        queuedEntries.incrementAndGet();
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maximumSize || queuedEntries.get() > 2 * maximumSize) {
+            Entry<V> entry = evictionQueue.poll();
+            if (entry == null) {
+                return;
+            }
+            queuedEntries.decrementAndGet();
+            if (entries.get(entry.id) != entry) {
+                continue;
+            }
+            if (entry.referenced && !entry.isExpired()) {
+                entry.referenced = false;
+                evictionQueue.offer(entry);
+                queuedEntries.incrementAndGet();
+                continue;
+            }
+            if (entries.remove(entry.id, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void evict(UUID id) {
+        stamps.incrementAndGet(stripeOf(id));
+        entries.remove(id);
+    }
+
+    private void evictAll() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            stamps.incrementAndGet(i);
+        }
+        entries.clear();
+    }
+
+    private static int stripeOf(UUID id) {
+        return Math.floorMod(id.hashCode(), STAMP_STRIPES);
+    }
+
+    private static boolean isWriteTransactionActive() {
+        return TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static <V> Optional<V> join(Entry<V> entry) {
+        try {
+            return entry.value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void afterTransaction(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private static class Entry<V> {
+        private final UUID id;
+        private final CompletableFuture<Optional<V>> value = new CompletableFuture<>();
+        private volatile long expiresAt;
+        private volatile boolean referenced;
+
+        private Entry(UUID id) {
+            this.id = id;
+        }
+
+        private boolean isExpired() {
+            return value.isDone() && System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    public static class Stats {
+        private final String name;
+        private final long size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public Stats(String name, long size, long hits, long misses, long evictions) {
+            this.name = name;
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.prgrms.java.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ExpiryTracker {
+    private final SortedIndex<LocalDateTime> pending = new SortedIndex<>();
+    private final SortedIndex<LocalDateTime> expired = new SortedIndex<>();
+    private final int batchSize;
+    private final Consumer<List<UUID>> listener;
+    private final ScheduledExecutorService scheduler;
+    private final static Logger logger = LoggerFactory.getLogger(ExpiryTracker.class);
+
+    public ExpiryTracker(String name, long tickMillis, int batchSize, Consumer<List<UUID>> listener) {
+        this.batchSize = batchSize;
+        this.listener = listener;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expiry-tracker-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void put(UUID id, LocalDateTime expiredAt) {
+        if (expiredAt != null && expiredAt.equals(expired.get(id))) {
+            return;
+        }
+        expired.remove(id);
+        pending.put(id, expiredAt);
+    }
+
+    public synchronized void remove(UUID id) {
+        pending.remove(id);
+        expired.remove(id);
+    }
+
+    public synchronized void clear() {
+        pending.clear();
+        expired.clear();
+    }
+
+    public Stream<UUID> findBefore(LocalDateTime at) {
+        return Stream.concat(expired.findBefore(at), pending.findBefore(at));
+    }
+
+    public List<SortedIndex.Entry<LocalDateTime>> findPage(LocalDateTime at, LocalDateTime afterExpiredAt, UUID afterId, int limit) {
+        return Stream.concat(expired.findBefore(at, afterExpiredAt, afterId).limit(limit), pending.findBefore(at, afterExpiredAt, afterId).limit(limit))
+                .distinct()
+                .sorted(SortedIndex.order())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public Stream<UUID> findExpired() {
+        advance();
+        return expired.findBefore(LocalDateTime.MAX);
+    }
+
+    public void advance() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> batch;
+        do {
+            synchronized (this) {
+                batch = pending.moveBefore(now, batchSize, expired);
+            }
+            if (!batch.isEmpty()) {
+                listener.accept(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void tick() {
+        try {
+            advance();
+        } catch (RuntimeException e) {
+            logger.warn("만료 처리 중 문제가 발생했습니다.", e);
+        }
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
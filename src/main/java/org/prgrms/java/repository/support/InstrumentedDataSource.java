@@ -0,0 +1,198 @@
+package org.prgrms.java.repository.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class InstrumentedDataSource extends DelegatingDataSource {
+    private static final String BATCH = "batch";
+
+    private final QueryMetrics metrics;
+
+    public InstrumentedDataSource(DataSource targetDataSource, QueryMetrics metrics) {
+        super(targetDataSource);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = super.getConnection();
+        metrics.recordAcquisition(System.nanoTime() - startedAt);
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        metrics.recordAcquisition(System.nanoTime() - startedAt);
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    public QueryMetrics getMetrics() {
+        return metrics;
+    }
+
+    private static <T> T wrap(Class<T> type, TargetHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private abstract static class TargetHandler implements InvocationHandler {
+        protected final Object target;
+
+        protected TargetHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : invokeTarget(method, args);
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy) || (boolean) invokeTarget(method, args);
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        protected Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private class ConnectionHandler extends TargetHandler {
+        private ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (methodName.equals("createStatement")) {
+                return wrap(Statement.class, new StatementHandler(invokeTarget(method, args), null, null));
+            }
+            if (!methodName.equals("prepareStatement") && !methodName.equals("prepareCall")) {
+                return invokeTarget(method, args);
+            }
+
+            String sql = (String) args[0];
+            String name = metrics.nameOf(sql);
+            long startedAt = System.nanoTime();
+            Object statement = invokeTarget(method, args);
+            metrics.recordPrepare(name, System.nanoTime() - startedAt);
+            return wrap(method.getReturnType(), new StatementHandler(statement, name, sql));
+        }
+    }
+
+    private class StatementHandler extends TargetHandler {
+        private final String preparedName;
+        private final String preparedSql;
+        private String lastName;
+
+        private StatementHandler(Object target, String preparedName, String preparedSql) {
+            super(target);
+            this.preparedName = preparedName;
+            this.preparedSql = preparedSql;
+            this.lastName = preparedName;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (methodName.equals("getResultSet")) {
+                return wrapResultSet(invokeTarget(method, args), lastName);
+            }
+            if (!methodName.startsWith("execute")) {
+                return invokeTarget(method, args);
+            }
+
+            boolean hasSql = args != null && args.length > 0 && args[0] instanceof String;
+            String sql = hasSql ? (String) args[0] : preparedSql;
+            String name = hasSql ? metrics.nameOf(sql) : (preparedName != null ? preparedName : BATCH);
+            lastName = name;
+
+            long startedAt = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(method, args);
+            } catch (Throwable e) {
+                metrics.recordExecution(name, sql, System.nanoTime() - startedAt, true);
+                throw e;
+            }
+            metrics.recordExecution(name, sql, System.nanoTime() - startedAt, false);
+
+            if (result instanceof ResultSet) {
+                return wrapResultSet(result, name);
+            }
+            recordRowsAffected(name, result);
+            return result;
+        }
+
+        private Object wrapResultSet(Object resultSet, String name) {
+            return (resultSet == null) ? null : wrap(ResultSet.class, new ResultSetHandler((ResultSet) resultSet, name));
+        }
+
+        private void recordRowsAffected(String name, Object result) {
+            long rows = 0;
+            if (result instanceof Integer count) {
+                rows = Math.max(count, 0);
+            } else if (result instanceof Long count) {
+                rows = Math.max(count, 0);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            if (rows > 0) {
+                metrics.recordRowsAffected(name, rows);
+            }
+        }
+    }
+
+    private class ResultSetHandler extends TargetHandler {
+        private final String name;
+        private long rows;
+        private boolean recorded;
+
+        private ResultSetHandler(ResultSet target, String name) {
+            super(target);
+            this.name = name;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (methodName.equals("next")) {
+                boolean hasNext = (boolean) invokeTarget(method, args);
+                if (hasNext) {
+                    rows++;
+                }
+                return hasNext;
+            }
+            if (methodName.equals("close") && !recorded) {
+                recorded = true;
+                metrics.recordRowsReturned(name, rows);
+            }
+            return invokeTarget(method, args);
+        }
+    }
+}
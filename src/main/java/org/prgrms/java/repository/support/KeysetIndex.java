@@ -0,0 +1,58 @@
+package org.prgrms.java.repository.support;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class KeysetIndex {
+    // DB 의 BINARY(16) 정렬과 같은 부호 없는 바이트 순서다.
+    public static final Comparator<UUID> ORDER = Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final NavigableSet<UUID> ids = new ConcurrentSkipListSet<>(ORDER);
+
+    public void add(UUID id) {
+        ids.add(id);
+    }
+
+    public void remove(UUID id) {
+        ids.remove(id);
+    }
+
+    public Stream<UUID> after(UUID afterId) {
+        return ((afterId == null) ? ids : ids.tailSet(afterId, false)).stream();
+    }
+
+    public void clear() {
+        ids.clear();
+    }
+
+    public static Stream<UUID> after(Collection<UUID> ids, UUID afterId) {
+        return ids.stream()
+                .filter(id -> afterId == null || ORDER.compare(id, afterId) > 0)
+                .sorted(ORDER);
+    }
+
+    public static <T> Stream<T> page(Stream<T> entities, Function<T, UUID> id, UUID afterId, int limit) {
+        return entities
+                .filter(entity -> afterId == null || ORDER.compare(id.apply(entity), afterId) > 0)
+                .sorted(Comparator.comparing(id, ORDER))
+                .limit(limit);
+    }
+
+    public static <T, K extends Comparable<? super K>> Stream<T> page(Stream<T> entities, Function<T, K> key, Function<T, UUID> id, K afterKey, UUID afterId, int limit) {
+        return entities
+                .filter(entity -> afterKey == null || isAfter(key.apply(entity), id.apply(entity), afterKey, afterId))
+                .sorted(Comparator.comparing(key).thenComparing(id, ORDER))
+                .limit(limit);
+    }
+
+    private static <K extends Comparable<? super K>> boolean isAfter(K key, UUID id, K afterKey, UUID afterId) {
+        int compared = key.compareTo(afterKey);
+        return compared > 0 || (compared == 0 && ORDER.compare(id, afterId) > 0);
+    }
+}
@@ -0,0 +1,227 @@
+package org.prgrms.java.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class QueryMetrics {
+    private final static Logger logger = LoggerFactory.getLogger(QueryMetrics.class);
+    private static final String QUERY_FIELD_SUFFIX = "_QUERY";
+    private static final String OTHER_QUERIES = "other";
+    private static final int MAX_UNREGISTERED_QUERIES = 256;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EXPANDED_PLACEHOLDERS = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private final long slowQueryNanos;
+    private final long slowAcquisitionNanos;
+    private final Map<String, String> namesBySql = new ConcurrentHashMap<>();
+    private final Map<String, QueryStatsRecorder> queries = new ConcurrentHashMap<>();
+    private final LatencyHistogram acquisitions = new LatencyHistogram();
+    private final LongAdder slowAcquisitions = new LongAdder();
+
+    public QueryMetrics(Duration slowQueryThreshold, Duration slowAcquisitionThreshold) {
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+        this.slowAcquisitionNanos = slowAcquisitionThreshold.toNanos();
+    }
+
+    public void registerQueries(Class<?> repositoryClass) {
+        for (Field field : repositoryClass.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) || field.getType() != String.class || !field.getName().endsWith(QUERY_FIELD_SUFFIX)) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                String sql = NamedParameterUtils.parseSqlStatementIntoString((String) field.get(null));
+                namesBySql.put(normalize(sql), repositoryClass.getSimpleName() + "." + field.getName());
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    public String nameOf(String sql) {
+        String normalized = normalize(sql);
+        String name = namesBySql.get(normalized);
+        if (name != null) {
+            return name;
+        }
+        return (queries.containsKey(normalized) || queries.size() < MAX_UNREGISTERED_QUERIES) ? normalized : OTHER_QUERIES;
+    }
+
+    public void recordAcquisition(long nanos) {
+        acquisitions.record(nanos);
+        if (nanos >= slowAcquisitionNanos) {
+            slowAcquisitions.increment();
+            logger.warn("커넥션을 얻는 데 {}ms 가 걸렸습니다.", toMillis(nanos));
+        }
+    }
+
+    public void recordPrepare(String name, long nanos) {
+        recorder(name).prepares.record(nanos);
+    }
+
+    public void recordExecution(String name, String sql, long nanos, boolean failed) {
+        QueryStatsRecorder recorder = recorder(name);
+        recorder.executions.record(nanos);
+        if (failed) {
+            recorder.errors.increment();
+        }
+        if (nanos >= slowQueryNanos) {
+            recorder.slowExecutions.increment();
+            logger.warn("느린 쿼리 {} ({}ms): {}", name, toMillis(nanos), sql);
+        }
+    }
+
+    public void recordRowsReturned(String name, long rows) {
+        recorder(name).rowsReturned.add(rows);
+    }
+
+    public void recordRowsAffected(String name, long rows) {
+        recorder(name).rowsAffected.add(rows);
+    }
+
+    public Snapshot getSnapshot() {
+        List<QueryStats> queryStats = queries.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparing((QueryStats stats) -> stats.getExecution().getTotal()).reversed())
+                .collect(Collectors.toList());
+        return new Snapshot(new AcquisitionStats(acquisitions.getSnapshot(), slowAcquisitions.sum()), queryStats,
+                Duration.ofNanos(slowQueryNanos), Duration.ofNanos(slowAcquisitionNanos));
+    }
+
+    private QueryStatsRecorder recorder(String name) {
+        return queries.computeIfAbsent(name, key -> new QueryStatsRecorder());
+    }
+
+    private static String normalize(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return EXPANDED_PLACEHOLDERS.matcher(collapsed).replaceAll("?");
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class QueryStatsRecorder {
+        private final LatencyHistogram prepares = new LatencyHistogram();
+        private final LatencyHistogram executions = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slowExecutions = new LongAdder();
+        private final LongAdder rowsReturned = new LongAdder();
+        private final LongAdder rowsAffected = new LongAdder();
+
+        private QueryStats toStats(String name) {
+            return new QueryStats(name, prepares.getSnapshot(), executions.getSnapshot(),
+                    errors.sum(), slowExecutions.sum(), rowsReturned.sum(), rowsAffected.sum());
+        }
+    }
+
+    public static class Snapshot {
+        private final AcquisitionStats connections;
+        private final List<QueryStats> queries;
+        private final Duration slowQueryThreshold;
+        private final Duration slowAcquisitionThreshold;
+
+        public Snapshot(AcquisitionStats connections, List<QueryStats> queries, Duration slowQueryThreshold, Duration slowAcquisitionThreshold) {
+            this.connections = connections;
+            this.queries = queries;
+            this.slowQueryThreshold = slowQueryThreshold;
+            this.slowAcquisitionThreshold = slowAcquisitionThreshold;
+        }
+
+        public AcquisitionStats getConnections() {
+            return connections;
+        }
+
+        public List<QueryStats> getQueries() {
+            return queries;
+        }
+
+        public Duration getSlowQueryThreshold() {
+            return slowQueryThreshold;
+        }
+
+        public Duration getSlowAcquisitionThreshold() {
+            return slowAcquisitionThreshold;
+        }
+    }
+
+    public static class AcquisitionStats {
+        private final LatencyHistogram.Snapshot acquisition;
+        private final long slowAcquisitions;
+
+        public AcquisitionStats(LatencyHistogram.Snapshot acquisition, long slowAcquisitions) {
+            this.acquisition = acquisition;
+            this.slowAcquisitions = slowAcquisitions;
+        }
+
+        public LatencyHistogram.Snapshot getAcquisition() {
+            return acquisition;
+        }
+
+        public long getSlowAcquisitions() {
+            return slowAcquisitions;
+        }
+    }
+
+    public static class QueryStats {
+        private final String name;
+        private final LatencyHistogram.Snapshot prepare;
+        private final LatencyHistogram.Snapshot execution;
+        private final long errors;
+        private final long slowExecutions;
+        private final long rowsReturned;
+        private final long rowsAffected;
+
+        public QueryStats(String name, LatencyHistogram.Snapshot prepare, LatencyHistogram.Snapshot execution,
+                          long errors, long slowExecutions, long rowsReturned, long rowsAffected) {
+            this.name = name;
+            this.prepare = prepare;
+            this.execution = execution;
+            this.errors = errors;
+            this.slowExecutions = slowExecutions;
+            this.rowsReturned = rowsReturned;
+            this.rowsAffected = rowsAffected;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram.Snapshot getPrepare() {
+            return prepare;
+        }
+
+        public LatencyHistogram.Snapshot getExecution() {
+            return execution;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getSlowExecutions() {
+            return slowExecutions;
+        }
+
+        public long getRowsReturned() {
+            return rowsReturned;
+        }
+
+        public long getRowsAffected() {
+            return rowsAffected;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.prgrms.java.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor {
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+    private static final long UNKNOWN_LAG = -1;
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+    private volatile long lagSeconds = UNKNOWN_LAG;
+    private volatile boolean replicaUsable;
+    private final static Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        if (maxLag.toMillis() % 1000 != 0) {
+            throw new IllegalArgumentException("maxLag must be a whole number of seconds.");
+        }
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        check();
+        this.scheduler.scheduleWithFixedDelay(this::tick, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public Stats getStats() {
+        return new Stats(replicaUsable, (lagSeconds == UNKNOWN_LAG) ? null : Duration.ofSeconds(lagSeconds), Duration.ofSeconds(maxLagSeconds));
+    }
+
+    public void check() {
+        long measured = measureLagSeconds();
+        boolean usable = measured != UNKNOWN_LAG && measured <= maxLagSeconds;
+        if (usable != replicaUsable) {
+            if (usable) {
+                logger.info("복제 DB 로 읽기를 다시 보냅니다. (지연 {}초)", measured);
+            } else {
+                logger.warn("복제 DB 지연이 {}라 읽기를 주 DB 로 보냅니다.", (measured == UNKNOWN_LAG) ? "확인되지 않아" : measured + "초");
+            }
+        }
+        lagSeconds = measured;
+        replicaUsable = usable;
+    }
+
+    private long measureLagSeconds() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+            if (!resultSet.next()) {
+                return UNKNOWN_LAG;
+            }
+            long seconds = resultSet.getLong(SECONDS_BEHIND_SOURCE);
+            return resultSet.wasNull() ? UNKNOWN_LAG : seconds;
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("복제 DB 상태를 확인하지 못했습니다.", e);
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private void tick() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            replicaUsable = false;
+            logger.warn("복제 DB 상태 확인 중 문제가 발생했습니다.", e);
+        }
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public static class Stats {
+        private final boolean replicaUsable;
+        private final Duration lag;
+        private final Duration maxLag;
+
+        public Stats(boolean replicaUsable, Duration lag, Duration maxLag) {
+            this.replicaUsable = replicaUsable;
+            this.lag = lag;
+            this.maxLag = maxLag;
+        }
+
+        public boolean isReplicaUsable() {
+            return replicaUsable;
+        }
+
+        public Duration getLag() {
+            return lag;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+    }
+}
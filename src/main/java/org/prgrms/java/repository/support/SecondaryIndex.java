@@ -0,0 +1,55 @@
+package org.prgrms.java.repository.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SecondaryIndex<K> {
+    private final Map<K, Set<UUID>> entries = new ConcurrentHashMap<>();
+    private final Map<UUID, K> indexedKeys = new ConcurrentHashMap<>();
+
+    public void put(UUID id, K key) {
+        K previousKey = (key == null) ? indexedKeys.remove(id) : indexedKeys.put(id, key);
+        if (previousKey != null && !previousKey.equals(key)) {
+            detach(previousKey, id);
+        }
+        if (key != null) {
+            entries.compute(key, (k, ids) -> {
+                Set<UUID> updated = (ids == null) ? ConcurrentHashMap.newKeySet() : ids;
+                updated.add(id);
+                return updated;
+            });
+        }
+    }
+
+    public void remove(UUID id) {
+        K previousKey = indexedKeys.remove(id);
+        if (previousKey != null) {
+            detach(previousKey, id);
+        }
+    }
+
+    public Set<UUID> find(K key) {
+        Set<UUID> ids = entries.get(key);
+        return (ids == null) ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    public Optional<UUID> findAny(K key) {
+        return find(key).stream().findAny();
+    }
+
+    public void clear() {
+        entries.clear();
+        indexedKeys.clear();
+    }
+
+    private void detach(K key, UUID id) {
+        entries.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
@@ -0,0 +1,243 @@
+package org.prgrms.java.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class SnapshotJournal<T> implements AutoCloseable {
+    private static final int MAGIC = 0x534e4150;
+    private static final int VERSION = 1;
+    private static final char PUT = 'P';
+    private static final char DELETE = 'D';
+    private static final char CLEAR = 'C';
+
+    private final Path snapshotPath;
+    private final AppendOnlyLog journal;
+    private final BatchWriter<AppendOnlyLog> writer;
+    private final Codec<T> codec;
+    private final long snapshotInterval;
+    private final Supplier<? extends Collection<T>> state;
+    private final Set<UUID> touched = new HashSet<>();
+    private boolean cleared;
+    private Consumer<T> put;
+    private Consumer<UUID> delete;
+    private long mutationsSinceSnapshot;
+    private final static Logger logger = LoggerFactory.getLogger(SnapshotJournal.class);
+
+    public SnapshotJournal(Path directory, String name, Codec<T> codec, Duration window, int maxBatchSize, long snapshotInterval, Supplier<? extends Collection<T>> state) {
+        this.snapshotPath = directory.resolve(name + ".snapshot");
+        this.journal = new AppendOnlyLog(directory.resolve(name + ".journal"));
+        this.codec = codec;
+        this.snapshotInterval = snapshotInterval;
+        this.state = state;
+        this.writer = new BatchWriter<>(name, window, maxBatchSize, new BatchWriter.Target<>() {
+            @Override
+            public AppendOnlyLog begin() {
+                return journal;
+            }
+
+            @Override
+            public void commit(AppendOnlyLog journal) {
+                try {
+                    journal.sync();
+                } catch (RuntimeException e) {
+                    rollback(e);
+                    throw e;
+                } finally {
+                    touched.clear();
+                    cleared = false;
+                }
+                if (mutationsSinceSnapshot >= snapshotInterval) {
+                    snapshot();
+                }
+            }
+        });
+    }
+
+    public void recover(Consumer<T> put, Consumer<UUID> delete) {
+        this.put = put;
+        this.delete = delete;
+        load().values().forEach(put);
+    }
+
+    public <R> R put(T entity, Supplier<R> mutation) {
+        return writer.submit(journal -> {
+            R result = mutation.get();
+            appendPut(entity);
+            return result;
+        });
+    }
+
+    public <R> R putAll(Collection<T> entities, Supplier<R> mutation) {
+        return writer.submit(journal -> {
+            R result = mutation.get();
+            entities.forEach(SnapshotJournal.this::appendPut);
+            return result;
+        });
+    }
+
+    public <C extends Collection<T>> C putChanged(Supplier<C> mutation) {
+        return writer.submit(journal -> {
+            C changed = mutation.get();
+            changed.forEach(SnapshotJournal.this::appendPut);
+            return changed;
+        });
+    }
+
+    public void delete(UUID id, Runnable mutation) {
+        writer.submit(journal -> {
+            mutation.run();
+            touched.add(id);
+            append(DELETE + "," + id);
+            return null;
+        });
+    }
+
+    public void clear(Runnable mutation) {
+        writer.submit(journal -> {
+            mutation.run();
+            cleared = true;
+            append(String.valueOf(CLEAR));
+            return null;
+        });
+    }
+
+    public BatchWriter.Metrics getWriterMetrics() {
+        return writer.getMetrics();
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+        journal.close();
+    }
+
+    private void appendPut(T entity) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            codec.write(output, entity);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        touched.add(codec.idOf(entity));
+        append(PUT + "," + Base64.getEncoder().encodeToString(bytes.toByteArray()));
+    }
+
+    private void append(String record) {
+        journal.append(record);
+        mutationsSinceSnapshot++;
+    }
+
+    private Map<UUID, T> load() {
+        Map<UUID, T> entities = new LinkedHashMap<>();
+        if (Files.exists(snapshotPath)) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+                if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                    throw new IllegalStateException("Corrupted snapshot: " + snapshotPath);
+                }
+                while (input.readBoolean()) {
+                    T entity = codec.read(input);
+                    entities.put(codec.idOf(entity), entity);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        mutationsSinceSnapshot = 0;
+        journal.scan((offset, record) -> {
+            switch (record.charAt(0)) {
+                case PUT -> {
+                    T entity = decode(record.substring(2));
+                    entities.put(codec.idOf(entity), entity);
+                }
+                case DELETE -> entities.remove(UUID.fromString(record.substring(2)));
+                case CLEAR -> entities.clear();
+                default -> throw new IllegalStateException("Corrupted journal record: " + record);
+            }
+            mutationsSinceSnapshot++;
+        });
+        return entities;
+    }
+
+    private T decode(String record) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(record)))) {
+            return codec.read(input);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupted journal record: " + record, e);
+        }
+    }
+
+    private void rollback(RuntimeException cause) {
+        try {
+            journal.discardPending();
+            Map<UUID, T> durable = load();
+            Set<UUID> restore = new HashSet<>(touched);
+            if (cleared) {
+                state.get().forEach(entity -> restore.add(codec.idOf(entity)));
+                restore.addAll(durable.keySet());
+            }
+            for (UUID id : restore) {
+                T entity = durable.get(id);
+                if (entity == null) {
+                    delete.accept(id);
+                } else {
+                    put.accept(entity);
+                }
+            }
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            logger.error("저널 기록에 실패한 뒤 메모리 상태를 되돌리지 못했습니다.", e);
+        }
+    }
+
+    private void snapshot() {
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporaryPath.toFile());
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            for (T entity : state.get()) {
+                output.writeBoolean(true);
+                codec.write(output, entity);
+            }
+            output.writeBoolean(false);
+            output.flush();
+            file.getFD().sync();
+        } catch (IOException e) {
+            logger.warn("스냅숏을 저장하지 못했습니다.", e);
+            return;
+        }
+
+        try {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("스냅숏을 저장하지 못했습니다.", e);
+            return;
+        }
+        journal.truncate();
+        mutationsSinceSnapshot = 0;
+    }
+
+    public interface Codec<T> {
+        UUID idOf(T entity);
+
+        void write(DataOutput output, T entity) throws IOException;
+
+        T read(DataInput input) throws IOException;
+    }
+}
@@ -0,0 +1,84 @@
+package org.prgrms.java.repository.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+public class SortedIndex<K extends Comparable<? super K>> {
+    private static final UUID LOWEST_ID = new UUID(0, 0);
+
+    private final Comparator<Entry<K>> order = order();
+    private final NavigableSet<Entry<K>> entries = new ConcurrentSkipListSet<>(order);
+    private final Map<UUID, K> indexedKeys = new ConcurrentHashMap<>();
+
+    public void put(UUID id, K key) {
+        K previousKey = (key == null) ? indexedKeys.remove(id) : indexedKeys.put(id, key);
+        if (previousKey != null && !previousKey.equals(key)) {
+            entries.remove(new Entry<>(previousKey, id));
+        }
+        if (key != null) {
+            entries.add(new Entry<>(key, id));
+        }
+    }
+
+    public void remove(UUID id) {
+        K previousKey = indexedKeys.remove(id);
+        if (previousKey != null) {
+            entries.remove(new Entry<>(previousKey, id));
+        }
+    }
+
+    public K get(UUID id) {
+        return indexedKeys.get(id);
+    }
+
+    public Stream<UUID> findBefore(K bound) {
+        return entries.headSet(new Entry<>(bound, LOWEST_ID), false).stream()
+                .map(Entry::id);
+    }
+
+    public Stream<Entry<K>> findBefore(K bound, K afterKey, UUID afterId) {
+        Entry<K> upper = new Entry<>(bound, LOWEST_ID);
+        if (afterKey == null) {
+            return entries.headSet(upper, false).stream();
+        }
+        Entry<K> lower = new Entry<>(afterKey, afterId);
+        if (order.compare(lower, upper) >= 0) {
+            return Stream.empty();
+        }
+        return entries.subSet(lower, false, upper, false).stream();
+    }
+
+    public List<UUID> moveBefore(K bound, int limit, SortedIndex<K> target) {
+        List<UUID> moved = new ArrayList<>();
+        Iterator<Entry<K>> iterator = entries.headSet(new Entry<>(bound, LOWEST_ID), false).iterator();
+        while (moved.size() < limit && iterator.hasNext()) {
+            Entry<K> entry = iterator.next();
+            if (entries.remove(entry)) {
+                indexedKeys.remove(entry.id(), entry.key());
+                target.put(entry.id(), entry.key());
+                moved.add(entry.id());
+            }
+        }
+        return moved;
+    }
+
+    public void clear() {
+        entries.clear();
+        indexedKeys.clear();
+    }
+
+    public static <K extends Comparable<? super K>> Comparator<Entry<K>> order() {
+        return Comparator.<Entry<K>, K>comparing(Entry::key).thenComparing(Entry::id, KeysetIndex.ORDER);
+    }
+
+    public record Entry<K>(K key, UUID id) {
+    }
+}
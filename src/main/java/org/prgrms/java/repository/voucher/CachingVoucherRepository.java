@@ -0,0 +1,238 @@
+package org.prgrms.java.repository.voucher;
+
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
+import org.prgrms.java.repository.support.EntityCache;
+import org.prgrms.java.service.mapper.VoucherMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+public class CachingVoucherRepository implements VoucherRepository {
+    private final VoucherRepository delegate;
+    private final EntityCache<Voucher> cache;
+
+    public CachingVoucherRepository(VoucherRepository delegate, int MAXIMUM_SIZE, long TTL_MILLIS) {
+        this(delegate, MAXIMUM_SIZE, TTL_MILLIS, () -> true);
+    }
+
+    public CachingVoucherRepository(VoucherRepository delegate, int MAXIMUM_SIZE, long TTL_MILLIS, BooleanSupplier fillable) {
+        this.delegate = delegate;
+        this.cache = new EntityCache<>("voucher", MAXIMUM_SIZE, Duration.ofMillis(TTL_MILLIS), CachingVoucherRepository::copy, fillable);
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        return cache.get(voucherId, delegate::findById);
+    }
+
+    @Override
+    public List<Voucher> findByCustomer(UUID customerId) {
+        return delegate.findByCustomer(customerId);
+    }
+
+    @Override
+    public List<Voucher> findExpiredVouchers() {
+        return delegate.findExpiredVouchers();
+    }
+
+    @Override
+    public List<Voucher> findExpiredVouchers(LocalDateTime at) {
+        return delegate.findExpiredVouchers(at);
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Voucher> findPage(UUID afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Voucher> findPageByCustomer(UUID customerId, UUID afterId, int limit) {
+        return delegate.findPageByCustomer(customerId, afterId, limit);
+    }
+
+    @Override
+    public List<Voucher> findExpiredPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return delegate.findExpiredPage(at, after, limit);
+    }
+
+    @Override
+    public List<UUID> findIdsByCustomer(UUID customerId) {
+        return delegate.findIdsByCustomer(customerId);
+    }
+
+    @Override
+    public List<UUID> findExpiredIds(LocalDateTime at) {
+        return delegate.findExpiredIds(at);
+    }
+
+    @Override
+    public List<VoucherExpiry> findExpiryPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return delegate.findExpiryPage(at, after, limit);
+    }
+
+    @Override
+    public Optional<VoucherStatus> findStatusById(UUID voucherId) {
+        return delegate.findStatusById(voucherId);
+    }
+
+    @Override
+    public List<VoucherSummary> findSummaries() {
+        return delegate.findSummaries();
+    }
+
+    @Override
+    public Stream<Voucher> streamByCustomer(UUID customerId) {
+        return delegate.streamByCustomer(customerId);
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers() {
+        return delegate.streamExpiredVouchers();
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers(LocalDateTime at) {
+        return delegate.streamExpiredVouchers(at);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        try {
+            return delegate.insert(voucher);
+        } finally {
+            cache.invalidate(voucher.getVoucherId());
+        }
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        try {
+            return delegate.insertAll(vouchers);
+        } finally {
+            vouchers.forEach(voucher -> cache.invalidate(voucher.getVoucherId()));
+        }
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        try {
+            return delegate.update(voucher);
+        } finally {
+            cache.invalidate(voucher.getVoucherId());
+        }
+    }
+
+    @Override
+    public List<Voucher> updateAll(Collection<Voucher> vouchers) {
+        try {
+            return delegate.updateAll(vouchers);
+        } finally {
+            vouchers.forEach(voucher -> cache.invalidate(voucher.getVoucherId()));
+        }
+    }
+
+    @Override
+    public boolean markUsedIfUnused(UUID voucherId) {
+        try {
+            return delegate.markUsedIfUnused(voucherId);
+        } finally {
+            cache.invalidate(voucherId);
+        }
+    }
+
+    @Override
+    public boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId) {
+        try {
+            return delegate.assignOwnerIfUnowned(voucherId, ownerId);
+        } finally {
+            cache.invalidate(voucherId);
+        }
+    }
+
+    @Override
+    public int markUsedIfUnused(Collection<UUID> voucherIds) {
+        try {
+            return delegate.markUsedIfUnused(voucherIds);
+        } finally {
+            voucherIds.forEach(cache::invalidate);
+        }
+    }
+
+    @Override
+    public int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        try {
+            return delegate.assignOwnerIfUnowned(voucherIds, ownerId);
+        } finally {
+            voucherIds.forEach(cache::invalidate);
+        }
+    }
+
+    @Override
+    public int detachAllFromOwner(UUID ownerId) {
+        try {
+            return delegate.detachAllFromOwner(ownerId);
+        } finally {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public int archiveAll(Collection<UUID> voucherIds, LocalDateTime expiredBefore) {
+        try {
+            return delegate.archiveAll(voucherIds, expiredBefore);
+        } finally {
+            voucherIds.forEach(cache::invalidate);
+        }
+    }
+
+    @Override
+    public Optional<Voucher> findArchivedById(UUID voucherId) {
+        return delegate.findArchivedById(voucherId);
+    }
+
+    @Override
+    public void delete(UUID voucherId) {
+        try {
+            delegate.delete(voucherId);
+        } finally {
+            cache.invalidate(voucherId);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            delegate.deleteAll();
+        } finally {
+            cache.invalidateAll();
+        }
+    }
+
+    public EntityCache.Stats getCacheStats() {
+        return cache.getStats();
+    }
+
+    private static Voucher copy(Voucher voucher) {
+        return VoucherMapper.mapToVoucher(voucher.getType(), voucher.getVoucherId(), voucher.getOwnerId(), voucher.getAmount(),
+                voucher.getCreatedAt(), voucher.getExpiredAt(), voucher.isUsed());
+    }
+}
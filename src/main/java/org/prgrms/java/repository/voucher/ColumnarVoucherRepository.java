@@ -0,0 +1,427 @@
+package org.prgrms.java.repository.voucher;
+
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherType;
+import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.service.mapper.VoucherMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Repository
+public class ColumnarVoucherRepository implements VoucherRepository {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY = -1;
+    private static final byte LIVE = 1;
+    private static final byte USED = 1 << 1;
+    private static final byte HAS_OWNER = 1 << 2;
+    private static final VoucherType[] TYPES = VoucherType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] voucherIdMsb;
+    private long[] voucherIdLsb;
+    private long[] ownerIdMsb;
+    private long[] ownerIdLsb;
+    private long[] amounts;
+    private long[] createdAtSeconds;
+    private int[] createdAtNanos;
+    private long[] expiredAtSeconds;
+    private int[] expiredAtNanos;
+    private byte[] types;
+    private byte[] flags;
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
+    private int[] table;
+    private int size;
+
+    public ColumnarVoucherRepository() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        lock.readLock().lock();
+        try {
+            int bucket = findBucket(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            return (bucket == EMPTY) ? Optional.empty() : Optional.of(read(table[bucket]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findByCustomer(UUID customerId) {
+        return findLiveVouchers(ownedBy(customerId));
+    }
+
+    @Override
+    public List<Voucher> findExpiredVouchers(LocalDateTime at) {
+        return findLiveVouchers(expiredBefore(at));
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return findLiveVouchers(slot -> true);
+    }
+
+    @Override
+    public Stream<Voucher> streamByCustomer(UUID customerId) {
+        return streamLiveVouchers(ownedBy(customerId));
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers(LocalDateTime at) {
+        return streamLiveVouchers(expiredBefore(at));
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return streamLiveVouchers(slot -> true);
+    }
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        long msb = voucher.getVoucherId().getMostSignificantBits();
+        long lsb = voucher.getVoucherId().getLeastSignificantBits();
+        lock.writeLock().lock();
+        try {
+            if (findBucket(msb, lsb) != EMPTY) {
+                throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+            }
+            if ((size + 1) * 2 > table.length) {
+                rehash(table.length * 2);
+            }
+
+            int slot = (freeCount > 0) ? freeSlots[--freeCount] : allocateSlot();
+            voucherIdMsb[slot] = msb;
+            voucherIdLsb[slot] = lsb;
+            amounts[slot] = voucher.getAmount();
+            types[slot] = (byte) voucher.getType().ordinal();
+            createdAtSeconds[slot] = voucher.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+            createdAtNanos[slot] = voucher.getCreatedAt().getNano();
+            writeMutableFields(slot, voucher);
+            place(slot);
+            size++;
+            return voucher;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        lock.writeLock().lock();
+        try {
+            int bucket = findBucket(voucher.getVoucherId().getMostSignificantBits(), voucher.getVoucherId().getLeastSignificantBits());
+            if (bucket == EMPTY) {
+                throw new VoucherNotFoundException();
+            }
+            writeMutableFields(table[bucket], voucher);
+            return voucher;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean markUsedIfUnused(UUID voucherId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(voucherId);
+            if ((flags[slot] & USED) != 0) {
+                return false;
+            }
+            flags[slot] |= USED;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(voucherId);
+            if ((flags[slot] & HAS_OWNER) != 0) {
+                return false;
+            }
+            ownerIdMsb[slot] = ownerId.getMostSignificantBits();
+            ownerIdLsb[slot] = ownerId.getLeastSignificantBits();
+            flags[slot] |= HAS_OWNER;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int markUsedIfUnused(Collection<UUID> voucherIds) {
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            for (UUID voucherId : new HashSet<>(voucherIds)) {
+                int bucket = findBucket(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+                if (bucket != EMPTY && (flags[table[bucket]] & USED) == 0) {
+                    flags[table[bucket]] |= USED;
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            for (UUID voucherId : new HashSet<>(voucherIds)) {
+                int bucket = findBucket(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+                if (bucket == EMPTY) {
+                    continue;
+                }
+                int slot = table[bucket];
+                if ((flags[slot] & HAS_OWNER) == 0) {
+                    ownerIdMsb[slot] = ownerId.getMostSignificantBits();
+                    ownerIdLsb[slot] = ownerId.getLeastSignificantBits();
+                    flags[slot] |= HAS_OWNER;
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int detachAllFromOwner(UUID ownerId) {
+        IntPredicate owned = ownedBy(ownerId);
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if ((flags[slot] & LIVE) != 0 && owned.test(slot)) {
+                    ownerIdMsb[slot] = 0;
+                    ownerIdLsb[slot] = 0;
+                    flags[slot] &= ~HAS_OWNER;
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(UUID voucherId) {
+        lock.writeLock().lock();
+        try {
+            int bucket = findBucket(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+            if (bucket == EMPTY) {
+                throw new VoucherNotFoundException();
+            }
+            int slot = table[bucket];
+            removeBucket(bucket);
+            flags[slot] = 0;
+            freeSlots[freeCount++] = slot;
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        lock.writeLock().lock();
+        try {
+            allocate(INITIAL_CAPACITY);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IntPredicate ownedBy(UUID customerId) {
+        long msb = customerId.getMostSignificantBits();
+        long lsb = customerId.getLeastSignificantBits();
+        return slot -> (flags[slot] & HAS_OWNER) != 0 && ownerIdMsb[slot] == msb && ownerIdLsb[slot] == lsb;
+    }
+
+    private IntPredicate expiredBefore(LocalDateTime at) {
+        long second = at.toEpochSecond(ZoneOffset.UTC);
+        int nano = at.getNano();
+        return slot -> expiredAtSeconds[slot] < second || (expiredAtSeconds[slot] == second && expiredAtNanos[slot] < nano);
+    }
+
+    private List<Voucher> findLiveVouchers(IntPredicate filter) {
+        List<Voucher> vouchers = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if ((flags[slot] & LIVE) != 0 && filter.test(slot)) {
+                    vouchers.add(read(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return vouchers;
+    }
+
+    private Stream<Voucher> streamLiveVouchers(IntPredicate filter) {
+        int slots;
+        lock.readLock().lock();
+        try {
+            slots = slotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return IntStream.range(0, slots)
+                .mapToObj(slot -> readIfLive(slot, filter))
+                .filter(Objects::nonNull);
+    }
+
+    private Voucher readIfLive(int slot, IntPredicate filter) {
+        lock.readLock().lock();
+        try {
+            return (slot < slotCount && (flags[slot] & LIVE) != 0 && filter.test(slot)) ? read(slot) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Voucher read(int slot) {
+        UUID voucherId = new UUID(voucherIdMsb[slot], voucherIdLsb[slot]);
+        UUID ownerId = ((flags[slot] & HAS_OWNER) != 0) ? new UUID(ownerIdMsb[slot], ownerIdLsb[slot]) : null;
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(createdAtSeconds[slot], createdAtNanos[slot], ZoneOffset.UTC);
+        LocalDateTime expiredAt = LocalDateTime.ofEpochSecond(expiredAtSeconds[slot], expiredAtNanos[slot], ZoneOffset.UTC);
+        boolean used = (flags[slot] & USED) != 0;
+
+        return VoucherMapper.mapToVoucher(TYPES[types[slot]], voucherId, ownerId, amounts[slot], createdAt, expiredAt, used);
+    }
+
+    private void writeMutableFields(int slot, Voucher voucher) {
+        UUID ownerId = voucher.getOwnerId();
+        ownerIdMsb[slot] = (ownerId == null) ? 0 : ownerId.getMostSignificantBits();
+        ownerIdLsb[slot] = (ownerId == null) ? 0 : ownerId.getLeastSignificantBits();
+        expiredAtSeconds[slot] = voucher.getExpiredAt().toEpochSecond(ZoneOffset.UTC);
+        expiredAtNanos[slot] = voucher.getExpiredAt().getNano();
+        flags[slot] = (byte) (LIVE | (voucher.isUsed() ? USED : 0) | (ownerId == null ? 0 : HAS_OWNER));
+    }
+
+    private int slotOf(UUID voucherId) {
+        int bucket = findBucket(voucherId.getMostSignificantBits(), voucherId.getLeastSignificantBits());
+        if (bucket == EMPTY) {
+            throw new VoucherNotFoundException();
+        }
+        return table[bucket];
+    }
+
+    private int findBucket(long msb, long lsb) {
+        int mask = table.length - 1;
+        for (int bucket = bucketOf(msb, lsb); table[bucket] != EMPTY; bucket = (bucket + 1) & mask) {
+            int slot = table[bucket];
+            if (voucherIdMsb[slot] == msb && voucherIdLsb[slot] == lsb) {
+                return bucket;
+            }
+        }
+        return EMPTY;
+    }
+
+    private void place(int slot) {
+        int mask = table.length - 1;
+        int bucket = bucketOf(voucherIdMsb[slot], voucherIdLsb[slot]);
+        while (table[bucket] != EMPTY) {
+            bucket = (bucket + 1) & mask;
+        }
+        table[bucket] = slot;
+    }
+
+    // 묘비를 남기지 않도록, 비운 버킷 뒤에 이어진 항목 중 제 위치보다 뒤로 밀려 있던 것을 앞으로 당긴다.
+    private void removeBucket(int bucket) {
+        int mask = table.length - 1;
+        int hole = bucket;
+        for (int next = (bucket + 1) & mask; table[next] != EMPTY; next = (next + 1) & mask) {
+            int slot = table[next];
+            int home = bucketOf(voucherIdMsb[slot], voucherIdLsb[slot]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = slot;
+                hole = next;
+            }
+        }
+        table[hole] = EMPTY;
+    }
+
+    private void rehash(int newTableSize) {
+        table = new int[newTableSize];
+        Arrays.fill(table, EMPTY);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if ((flags[slot] & LIVE) != 0) {
+                place(slot);
+            }
+        }
+    }
+
+    private int bucketOf(long msb, long lsb) {
+        long hash = msb ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & (table.length - 1);
+    }
+
+    private int allocateSlot() {
+        if (slotCount == voucherIdMsb.length) {
+            grow(voucherIdMsb.length * 2);
+        }
+        return slotCount++;
+    }
+
+    private void grow(int capacity) {
+        voucherIdMsb = Arrays.copyOf(voucherIdMsb, capacity);
+        voucherIdLsb = Arrays.copyOf(voucherIdLsb, capacity);
+        ownerIdMsb = Arrays.copyOf(ownerIdMsb, capacity);
+        ownerIdLsb = Arrays.copyOf(ownerIdLsb, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        createdAtSeconds = Arrays.copyOf(createdAtSeconds, capacity);
+        createdAtNanos = Arrays.copyOf(createdAtNanos, capacity);
+        expiredAtSeconds = Arrays.copyOf(expiredAtSeconds, capacity);
+        expiredAtNanos = Arrays.copyOf(expiredAtNanos, capacity);
+        types = Arrays.copyOf(types, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    private void allocate(int capacity) {
+        voucherIdMsb = new long[capacity];
+        voucherIdLsb = new long[capacity];
+        ownerIdMsb = new long[capacity];
+        ownerIdLsb = new long[capacity];
+        amounts = new long[capacity];
+        createdAtSeconds = new long[capacity];
+        createdAtNanos = new int[capacity];
+        expiredAtSeconds = new long[capacity];
+        expiredAtNanos = new int[capacity];
+        types = new byte[capacity];
+        flags = new byte[capacity];
+        freeSlots = new int[capacity];
+        freeCount = 0;
+        slotCount = 0;
+        table = new int[capacity * 2];
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+}
@@ -1,161 +1,564 @@
 package org.prgrms.java.repository.voucher;
 
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.repository.support.AppendOnlyLog;
+import org.prgrms.java.repository.support.BatchWriter;
+import org.prgrms.java.repository.support.CompressedArchive;
+import org.prgrms.java.repository.support.KeysetIndex;
+import org.prgrms.java.repository.support.SecondaryIndex;
+import org.prgrms.java.repository.support.SortedIndex;
+import org.prgrms.java.service.mapper.RecordParser;
 import org.prgrms.java.service.mapper.VoucherMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.io.*;
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class FileVoucherRepository implements VoucherRepository {
-    private final String DATA_PATH;
-    private final String DATA_NAME;
+    private static final String TOMBSTONE = "DELETED";
+    private static final String ARCHIVE_SUFFIX = ".archive.gz";
+    private static final int COMPACTION_THRESHOLD = 1024;
+    private static final int DEFAULT_BATCH_MAX_SIZE = 256;
+    private static final long DEFAULT_PARALLEL_SCAN_THRESHOLD = 64L * 1024 * 1024;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final AppendOnlyLog log;
+    private final CompressedArchive archive;
+    private final BatchWriter<AppendOnlyLog> writer;
+    private final Map<UUID, Long> index = new ConcurrentHashMap<>();
+    private final KeysetIndex keys = new KeysetIndex();
+    private final SecondaryIndex<UUID> ownerIndex = new SecondaryIndex<>();
+    private final SortedIndex<LocalDateTime> expiryIndex = new SortedIndex<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long parallelScanThreshold;
+    private long garbageRecords;
     private final static Logger logger = LoggerFactory.getLogger(FileVoucherRepository.class);
 
-    public FileVoucherRepository(@Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.voucher}") String DATA_NAME) {
+    public FileVoucherRepository(String DATA_PATH, String DATA_NAME) {
+        this(DATA_PATH, DATA_NAME, 0, DEFAULT_BATCH_MAX_SIZE);
+    }
+
+    public FileVoucherRepository(String DATA_PATH, String DATA_NAME, long BATCH_WINDOW_MILLIS, int BATCH_MAX_SIZE) {
+        this(DATA_PATH, DATA_NAME, BATCH_WINDOW_MILLIS, BATCH_MAX_SIZE, DEFAULT_PARALLEL_SCAN_THRESHOLD);
+    }
+
+    @Autowired
+    public FileVoucherRepository(@Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.voucher}") String DATA_NAME,
+                                 @Value("${prgrms.data.batch.window-millis}") long BATCH_WINDOW_MILLIS, @Value("${prgrms.data.batch.max-size}") int BATCH_MAX_SIZE,
+                                 @Value("${prgrms.data.scan.parallel-threshold-bytes}") long PARALLEL_SCAN_THRESHOLD) {
         logger.debug("저장 파일 생성 중...");
-        try {
-            new File(DATA_PATH).mkdirs();
-            new File(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)).createNewFile();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        this.parallelScanThreshold = PARALLEL_SCAN_THRESHOLD;
+        this.log = new AppendOnlyLog(Path.of(DATA_PATH, DATA_NAME));
+        this.archive = new CompressedArchive(Path.of(DATA_PATH, DATA_NAME + ARCHIVE_SUFFIX), FileVoucherRepository::parseVoucherId);
+        loadIndex();
+        compactIfNeeded();
 
-        this.DATA_PATH = DATA_PATH;
-        this.DATA_NAME = DATA_NAME;
+        this.writer = new BatchWriter<>(DATA_NAME, Duration.ofMillis(BATCH_WINDOW_MILLIS), BATCH_MAX_SIZE, new BatchWriter.Target<>() {
+            @Override
+            public AppendOnlyLog begin() {
+                lock.writeLock().lock();
+                return log;
+            }
+
+            @Override
+            public void commit(AppendOnlyLog log) {
+                try {
+                    try {
+                        log.sync();
+                    } catch (RuntimeException e) {
+                        rollback(e);
+                        throw e;
+                    }
+                    compactIfNeeded();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
     }
 
     @Override
     public Optional<Voucher> findById(UUID voucherId) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            Optional<String> str = reader.lines()
-                    .filter(line -> line.contains(voucherId.toString()))
-                    .findAny();
-            if (str.isPresent()) {
-                return Optional.of(VoucherMapper.mapToVoucher(str.get()));
+        lock.readLock().lock();
+        try {
+            Long offset = index.get(voucherId);
+            if (offset == null) {
+                return Optional.empty();
             }
-            return Optional.empty();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            return Optional.of(VoucherMapper.mapToVoucher(log.read(offset)));
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public List<Voucher> findByCustomer(UUID customerId) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            return reader.lines()
-                    .filter(line -> line.contains(customerId.toString()))
-                    .map(VoucherMapper::mapToVoucher)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return streamByCustomer(customerId).collect(Collectors.toList());
     }
 
     @Override
-    public List<Voucher> findExpiredVouchers() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            return reader.lines()
-                    .filter(line -> LocalDateTime.parse(line.split(",")[5].trim()).isBefore(LocalDateTime.now()))
-                    .map(VoucherMapper::mapToVoucher)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public List<Voucher> findExpiredVouchers(LocalDateTime at) {
+        return streamExpiredVouchers(at).collect(Collectors.toList());
     }
 
     @Override
     public List<Voucher> findAll() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            return reader.lines()
-                    .map(VoucherMapper::mapToVoucher)
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return findLiveVouchers(voucher -> true);
+    }
+
+    @Override
+    public List<Voucher> findPage(UUID afterId, int limit) {
+        return keys.after(afterId)
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findPageByCustomer(UUID customerId, UUID afterId, int limit) {
+        return KeysetIndex.after(ownerIndex.find(customerId), afterId)
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findExpiredPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return findExpiryPage(at, after, limit).stream()
+                .map(expiry -> findById(expiry.getVoucherId()))
+                .flatMap(Optional::stream)
+                .filter(voucher -> voucher.getExpiredAt().isBefore(at))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<VoucherExpiry> findExpiryPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return expiryIndex.findBefore(at, (after == null) ? null : after.getExpiredAt(), (after == null) ? null : after.getVoucherId())
+                .limit(limit)
+                .map(entry -> new VoucherExpiry(entry.id(), entry.key()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UUID> findIdsByCustomer(UUID customerId) {
+        return List.copyOf(ownerIndex.find(customerId));
+    }
+
+    @Override
+    public Stream<Voucher> streamByCustomer(UUID customerId) {
+        return ownerIndex.find(customerId).stream()
+                .map(this::findById)
+                .flatMap(Optional::stream);
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers(LocalDateTime at) {
+        return expiryIndex.findBefore(at)
+                .map(this::findById)
+                .flatMap(Optional::stream);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return streamLiveVouchers();
     }
 
     @Override
     public Voucher insert(Voucher voucher) {
-        if (findById(voucher.getVoucherId()).isPresent()) {
-            throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
-        }
+        return writer.submit(log -> {
+            if (index.containsKey(voucher.getVoucherId())) {
+                throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+            }
+            index(voucher, log.append(voucher.toString()));
+            return voucher;
+        });
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME), true))) {
-            writer.write(voucher.toString());
-            writer.newLine();
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        return voucher;
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        List<Voucher> batch = List.copyOf(vouchers);
+        return writer.submit(log -> {
+            Set<UUID> voucherIds = new HashSet<>();
+            for (Voucher voucher : batch) {
+                if (!voucherIds.add(voucher.getVoucherId()) || index.containsKey(voucher.getVoucherId())) {
+                    throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+                }
+            }
+            for (Voucher voucher : batch) {
+                index(voucher, log.append(voucher.toString()));
+            }
+            return batch;
+        });
     }
 
     @Override
     public Voucher update(Voucher voucher) {
-        List<String> lines;
-        try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            lines = reader.lines().collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return writer.submit(log -> {
+            if (!index.containsKey(voucher.getVoucherId())) {
+                throw new VoucherNotFoundException();
+            }
+            index(voucher, log.append(voucher.toString()));
+            garbageRecords++;
+            return voucher;
+        });
+    }
+
+    @Override
+    public List<Voucher> updateAll(Collection<Voucher> vouchers) {
+        List<Voucher> batch = List.copyOf(vouchers);
+        return writer.submit(log -> {
+            if (!batch.stream().allMatch(voucher -> index.containsKey(voucher.getVoucherId()))) {
+                throw new VoucherNotFoundException();
+            }
+            for (Voucher voucher : batch) {
+                index(voucher, log.append(voucher.toString()));
+            }
+            garbageRecords += batch.size();
+            return batch;
+        });
+    }
+
+    @Override
+    public boolean markUsedIfUnused(UUID voucherId) {
+        return updateIf(voucherId, voucher -> {
+            if (voucher.isUsed()) {
+                return false;
+            }
+            voucher.setUsed(true);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId) {
+        return updateIf(voucherId, voucher -> {
+            if (voucher.getOwnerId() != null) {
+                return false;
+            }
+            voucher.setOwnerId(ownerId);
+            return true;
+        });
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            for (String line : lines) {
-                if (line.contains(voucher.getVoucherId().toString())) {
-                    writer.write(voucher.toString());
-                } else {
-                    writer.write(line);
+    @Override
+    public int markUsedIfUnused(Collection<UUID> voucherIds) {
+        return updateAllIf(voucherIds, voucher -> {
+            if (voucher.isUsed()) {
+                return false;
+            }
+            voucher.setUsed(true);
+            return true;
+        });
+    }
+
+    @Override
+    public int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        return updateAllIf(voucherIds, voucher -> {
+            if (voucher.getOwnerId() != null) {
+                return false;
+            }
+            voucher.setOwnerId(ownerId);
+            return true;
+        });
+    }
+
+    @Override
+    public int detachAllFromOwner(UUID ownerId) {
+        return writer.submit(log -> applyAll(log, List.copyOf(ownerIndex.find(ownerId)), voucher -> {
+            if (!ownerId.equals(voucher.getOwnerId())) {
+                return false;
+            }
+            voucher.setOwnerId(null);
+            return true;
+        }));
+    }
+
+    @Override
+    public int archiveAll(Collection<UUID> voucherIds, LocalDateTime expiredBefore) {
+        Set<UUID> batch = new LinkedHashSet<>(voucherIds);
+        return writer.submit(log -> {
+            List<UUID> archivedIds = new ArrayList<>();
+            List<String> records = new ArrayList<>();
+            for (UUID voucherId : batch) {
+                Long offset = index.get(voucherId);
+                if (offset == null) {
+                    continue;
+                }
+                String record = log.read(offset);
+                if (VoucherMapper.mapToVoucher(record).getExpiredAt().isBefore(expiredBefore)) {
+                    archivedIds.add(voucherId);
+                    records.add(record);
                 }
-                writer.newLine();
             }
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        return voucher;
+            archive.append(records);
+
+            for (UUID voucherId : archivedIds) {
+                unindex(voucherId);
+                log.append(MessageFormat.format("{0}, {1}", voucherId, TOMBSTONE));
+            }
+            garbageRecords += 2L * archivedIds.size();
+            return archivedIds.size();
+        });
+    }
+
+    @Override
+    public Optional<Voucher> findArchivedById(UUID voucherId) {
+        return archive.find(voucherId)
+                .map(VoucherMapper::mapToVoucher);
     }
 
     @Override
     public void delete(UUID voucherId) {
-        List<String> lines;
-        try (BufferedReader reader = new BufferedReader(new FileReader(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            lines = reader.lines().collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        writer.submit(log -> {
+            if (!unindex(voucherId)) {
+                return null;
+            }
+            log.append(MessageFormat.format("{0}, {1}", voucherId, TOMBSTONE));
+            garbageRecords += 2;
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        writer.submit(log -> {
+            log.truncate();
+            index.clear();
+            keys.clear();
+            ownerIndex.clear();
+            expiryIndex.clear();
+            garbageRecords = 0;
+            return null;
+        });
+    }
+
+    public BatchWriter.Metrics getWriterMetrics() {
+        return writer.getMetrics();
+    }
+
+    @PreDestroy
+    public void close() {
+        writer.close();
+        log.close();
+        archive.close();
+    }
+
+    // 쓰기 잠금 안에서 호출한다.
+    private void rollback(RuntimeException cause) {
+        try {
+            log.discardPending();
+            loadIndex();
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            logger.error("기록에 실패한 뒤 색인을 다시 만들지 못했습니다.", e);
         }
+    }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME)))) {
-            for (String line : lines) {
-                if (!line.contains(voucherId.toString())) {
-                    writer.write(line);
-                    writer.newLine();
-                }
+    private void loadIndex() {
+        index.clear();
+        keys.clear();
+        ownerIndex.clear();
+        expiryIndex.clear();
+        garbageRecords = 0;
+        log.scan((offset, record) -> {
+            RecordParser parser = new RecordParser(record);
+            UUID voucherId = parser.nextUuid();
+            if (isTombstone(record)) {
+                garbageRecords += unindex(voucherId) ? 2 : 1;
+                return;
+            }
+            if (index.put(voucherId, offset) != null) {
+                garbageRecords++;
+            }
+            keys.add(voucherId);
+            ownerIndex.put(voucherId, parser.nextNullableUuid());
+            parser.skip(3);
+            expiryIndex.put(voucherId, parser.nextDateTime());
+        });
+    }
+
+    private boolean updateIf(UUID voucherId, Predicate<Voucher> change) {
+        return writer.submit(log -> {
+            Long offset = index.get(voucherId);
+            if (offset == null) {
+                throw new VoucherNotFoundException();
+            }
+            Voucher voucher = VoucherMapper.mapToVoucher(log.read(offset));
+            if (!change.test(voucher)) {
+                return false;
+            }
+            index(voucher, log.append(voucher.toString()));
+            garbageRecords++;
+            return true;
+        });
+    }
+
+    private int updateAllIf(Collection<UUID> voucherIds, Predicate<Voucher> change) {
+        Set<UUID> batch = new LinkedHashSet<>(voucherIds);
+        return writer.submit(log -> applyAll(log, batch, change));
+    }
+
+    private int applyAll(AppendOnlyLog log, Collection<UUID> voucherIds, Predicate<Voucher> change) {
+        int changed = 0;
+        for (UUID voucherId : voucherIds) {
+            Long offset = index.get(voucherId);
+            if (offset == null) {
+                continue;
+            }
+            Voucher voucher = VoucherMapper.mapToVoucher(log.read(offset));
+            if (change.test(voucher)) {
+                index(voucher, log.append(voucher.toString()));
+                changed++;
             }
-            writer.flush();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        garbageRecords += changed;
+        return changed;
     }
 
-    @Override
-    public void deleteAll() {
-        String fileName = MessageFormat.format("{0}/{1}", DATA_PATH, DATA_NAME);
+    private void index(Voucher voucher, long offset) {
+        index.put(voucher.getVoucherId(), offset);
+        keys.add(voucher.getVoucherId());
+        ownerIndex.put(voucher.getVoucherId(), voucher.getOwnerId());
+        expiryIndex.put(voucher.getVoucherId(), voucher.getExpiredAt());
+    }
+
+    private boolean unindex(UUID voucherId) {
+        keys.remove(voucherId);
+        ownerIndex.remove(voucherId);
+        expiryIndex.remove(voucherId);
+        return index.remove(voucherId) != null;
+    }
+
+    private List<Voucher> findLiveVouchers(Predicate<Voucher> filter) {
+        lock.readLock().lock();
+        try {
+            if (log.size() < parallelScanThreshold) {
+                return findLiveVouchers(0, log.size(), filter);
+            }
+            return splitIntoRecordRanges().parallel()
+                    .map(range -> findLiveVouchers(range[0], range[1], filter))
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
-            new FileWriter(fileName).close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private List<Voucher> findLiveVouchers(long from, long to, Predicate<Voucher> filter) {
+        List<Voucher> vouchers = new ArrayList<>();
+        log.scan(from, to, (offset, record) -> {
+            if (isTombstone(record) || !Objects.equals(index.get(parseVoucherId(record)), offset)) {
+                return;
+            }
+            Voucher voucher = VoucherMapper.mapToVoucher(record);
+            if (filter.test(voucher)) {
+                vouchers.add(voucher);
+            }
+        });
+        return vouchers;
+    }
+
+    private Stream<Voucher> streamLiveVouchers() {
+        Stream<AppendOnlyLog.Line> lines;
+        long generation;
+        long end;
+        lock.readLock().lock();
+        try {
+            lines = log.stream();
+            generation = log.generation();
+            end = log.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+        Set<UUID> rereadIds = new HashSet<>();
+        return lines
+                .map(line -> findLiveRecord(line, generation, end, rereadIds))
+                .flatMap(Optional::stream)
+                .map(VoucherMapper::mapToVoucher);
+    }
+
+    private Optional<String> findLiveRecord(AppendOnlyLog.Line line, long generation, long end, Set<UUID> rereadIds) {
+        if (isTombstone(line.record())) {
+            return Optional.empty();
+        }
+        UUID voucherId = parseVoucherId(line.record());
+        if (Objects.equals(index.get(voucherId), line.offset()) && log.generation() == generation) {
+            return Optional.of(line.record());
         }
+        lock.readLock().lock();
+        try {
+            Long offset = index.get(voucherId);
+            boolean compacted = log.generation() != generation;
+            if (offset == null || (!compacted && offset < end) || !rereadIds.add(voucherId)) {
+                return Optional.empty();
+            }
+            return Optional.of(log.read(offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Stream<long[]> splitIntoRecordRanges() {
+        long size = log.size();
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_WORKER;
+        long chunkSize = Math.max(1, (size + chunks - 1) / chunks);
+
+        List<long[]> ranges = new ArrayList<>();
+        long from = 0;
+        while (from < size) {
+            long to = log.alignToRecord(Math.min(from + chunkSize, size));
+            ranges.add(new long[]{from, to});
+            from = to;
+        }
+        return ranges.stream();
+    }
+
+    private void compactIfNeeded() {
+        if (garbageRecords < COMPACTION_THRESHOLD || garbageRecords < index.size()) {
+            return;
+        }
+
+        List<Map.Entry<UUID, Long>> entries = new ArrayList<>(index.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+        long[] newOffsets;
+        try {
+            newOffsets = log.compact(entries.stream().mapToLong(Map.Entry::getValue).toArray());
+        } catch (RuntimeException e) {
+            logger.warn("저장 파일을 정리하지 못했습니다.", e);
+            return;
+        }
+        for (int i = 0; i < newOffsets.length; i++) {
+            index.put(entries.get(i).getKey(), newOffsets[i]);
+        }
+        garbageRecords = 0;
+    }
+
+    private static UUID parseVoucherId(String record) {
+        return new RecordParser(record).nextUuid();
+    }
+
+    private static boolean isTombstone(String record) {
+        return record.endsWith(TOMBSTONE);
     }
 }
@@ -1,37 +1,89 @@
 package org.prgrms.java.repository.voucher;
 
+import org.prgrms.java.common.TypeConversionUtils;
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
 import org.prgrms.java.domain.voucher.VoucherType;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
 import org.prgrms.java.service.mapper.VoucherMapper;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.prgrms.java.common.TypeConversionUtils.toBytes;
 import static org.prgrms.java.common.TypeConversionUtils.toUUID;
 
 @Repository
-@Primary
 public class JdbcVoucherRepository implements VoucherRepository {
-    private static final String INSERT_QUERY = "INSERT INTO vouchers(voucher_id, owner_id, amount, type, created_at, expired_at, used) VALUES (UUID_TO_BIN(:voucherId), UUID_TO_BIN(:ownerId), :amount, :type, :createdAt, :expiredAt, :used)";
-    private static final String FIND_BY_ID_QUERY = "SELECT * FROM vouchers WHERE voucher_id = UUID_TO_BIN(:voucherId)";
-    private static final String FIND_BY_OWNER_QUERY = "SELECT * FROM vouchers WHERE owner_id = UUID_TO_BIN(:ownerId)";
-    private static final String FIND_EXPIRED_VOUCHER_QUERY = "SELECT * FROM vouchers WHERE expired_at < CURRENT_TIMESTAMP";
-    private static final String FIND_ALL_QUERY = "SELECT * FROM vouchers";
-    private static final String UPDATE_QUERY = "UPDATE vouchers SET owner_id = UUID_TO_BIN(:ownerId), amount = :amount, type = :type, expired_at = :expiredAt, used = :used WHERE voucher_id = UUID_TO_BIN(:voucherId)";
-    private static final String DELETE_QUERY = "DELETE FROM vouchers WHERE voucher_id = UUID_TO_BIN(:voucherId)";
+    // 행 매퍼는 열 이름 대신 이 순서대로 읽는다. 열을 바꾸면 매퍼도 함께 바꿔야 한다.
+    private static final String VOUCHER_COLUMNS = "voucher_id, owner_id, amount, type, created_at, expired_at, used";
+    private static final String STATUS_COLUMNS = "voucher_id, owner_id, used";
+    private static final String SUMMARY_COLUMNS = "voucher_id, type, amount, expired_at, used";
+
+    private static final String INSERT_QUERY = "INSERT INTO vouchers(" + VOUCHER_COLUMNS + ") VALUES (:voucherId, :ownerId, :amount, :type, :createdAt, :expiredAt, :used)";
+    private static final String FIND_BY_ID_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers WHERE voucher_id = :voucherId";
+    private static final String FIND_BY_OWNER_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers WHERE owner_id = :ownerId";
+    private static final String FIND_EXPIRED_VOUCHER_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers WHERE expired_at < :expiredAt";
+    private static final String FIND_ALL_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers";
+    private static final String FIND_PAGE_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers WHERE voucher_id > :afterId ORDER BY voucher_id LIMIT :limit";
+    private static final String FIND_PAGE_BY_OWNER_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers WHERE owner_id = :ownerId AND voucher_id > :afterId ORDER BY voucher_id LIMIT :limit";
+    private static final String FIND_EXPIRED_PAGE_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers WHERE expired_at < :expiredAt AND (expired_at, voucher_id) > (:afterExpiredAt, :afterId) ORDER BY expired_at, voucher_id LIMIT :limit";
+    private static final String FIND_IDS_BY_OWNER_QUERY = "SELECT voucher_id FROM vouchers WHERE owner_id = :ownerId";
+    private static final String FIND_EXPIRED_IDS_QUERY = "SELECT voucher_id FROM vouchers WHERE expired_at < :expiredAt";
+    private static final String FIND_EXPIRY_PAGE_QUERY = "SELECT voucher_id, expired_at FROM vouchers WHERE expired_at < :expiredAt AND (expired_at, voucher_id) > (:afterExpiredAt, :afterId) ORDER BY expired_at, voucher_id LIMIT :limit";
+    private static final String FIND_STATUS_BY_ID_QUERY = "SELECT " + STATUS_COLUMNS + " FROM vouchers WHERE voucher_id = :voucherId";
+    private static final String FIND_SUMMARIES_QUERY = "SELECT " + SUMMARY_COLUMNS + " FROM vouchers";
+    private static final String UPDATE_QUERY = "UPDATE vouchers SET owner_id = :ownerId, amount = :amount, type = :type, expired_at = :expiredAt, used = :used WHERE voucher_id = :voucherId";
+    private static final String MARK_USED_IF_UNUSED_QUERY = "UPDATE vouchers SET used = true WHERE voucher_id = :voucherId AND used = false";
+    private static final String ASSIGN_OWNER_IF_UNOWNED_QUERY = "UPDATE vouchers SET owner_id = :ownerId WHERE voucher_id = :voucherId AND owner_id IS NULL";
+    private static final String MARK_ALL_USED_IF_UNUSED_QUERY = "UPDATE vouchers SET used = true WHERE voucher_id IN (:voucherIds) AND used = false";
+    private static final String ASSIGN_OWNER_TO_ALL_IF_UNOWNED_QUERY = "UPDATE vouchers SET owner_id = :ownerId WHERE voucher_id IN (:voucherIds) AND owner_id IS NULL";
+    private static final String DETACH_ALL_FROM_OWNER_QUERY = "UPDATE vouchers SET owner_id = NULL WHERE owner_id = :ownerId";
+    private static final String EXISTS_QUERY = "SELECT EXISTS(SELECT 1 FROM vouchers WHERE voucher_id = :voucherId)";
+    private static final String LOCK_ARCHIVE_TARGETS_QUERY = "SELECT voucher_id FROM vouchers WHERE voucher_id IN (:voucherIds) AND expired_at < :expiredAt FOR UPDATE";
+    private static final String ARCHIVE_QUERY = "INSERT INTO vouchers_archive(" + VOUCHER_COLUMNS + ", archived_at) SELECT " + VOUCHER_COLUMNS + ", :archivedAt FROM vouchers WHERE voucher_id IN (:voucherIds)";
+    private static final String DELETE_ARCHIVED_QUERY = "DELETE FROM vouchers WHERE voucher_id IN (:voucherIds)";
+    private static final String FIND_ARCHIVED_BY_ID_QUERY = "SELECT " + VOUCHER_COLUMNS + " FROM vouchers_archive WHERE voucher_id = :voucherId";
+    private static final String DELETE_QUERY = "DELETE FROM vouchers WHERE voucher_id = :voucherId";
     private static final String DELETE_ALL_ROWS_QUERY = "DELETE FROM vouchers";
 
+    private static final UUID FIRST_PAGE_AFTER_ID = new UUID(0, 0);
+    private static final LocalDateTime FIRST_PAGE_AFTER_EXPIRED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+    private final int batchSize;
 
     public JdbcVoucherRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this(namedParameterJdbcTemplate, DEFAULT_STREAM_FETCH_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    @Autowired
+    public JdbcVoucherRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, @Value("${prgrms.jdbc.stream-fetch-size}") int STREAM_FETCH_SIZE, @Value("${prgrms.jdbc.batch-size}") int BATCH_SIZE) {
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.batchSize = BATCH_SIZE;
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(namedParameterJdbcTemplate.getJdbcTemplate().getDataSource());
+        jdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
     @Override
@@ -39,7 +91,7 @@ public class JdbcVoucherRepository implements VoucherRepository {
         try {
             return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(
                     FIND_BY_ID_QUERY,
-                    Collections.singletonMap("voucherId", voucherId.toString().getBytes()),
+                    Collections.singletonMap("voucherId", toBytes(voucherId)),
                     mapToVoucher));
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
@@ -50,13 +102,13 @@ public class JdbcVoucherRepository implements VoucherRepository {
     public List<Voucher> findByCustomer(UUID customerId) {
         return namedParameterJdbcTemplate.query(
                 FIND_BY_OWNER_QUERY,
-                Collections.singletonMap("ownerId", customerId.toString().getBytes()),
+                Collections.singletonMap("ownerId", toBytes(customerId)),
                 mapToVoucher);
     }
 
     @Override
-    public List<Voucher> findExpiredVouchers() {
-        return namedParameterJdbcTemplate.query(FIND_EXPIRED_VOUCHER_QUERY, Collections.emptyMap(), mapToVoucher);
+    public List<Voucher> findExpiredVouchers(LocalDateTime at) {
+        return namedParameterJdbcTemplate.query(FIND_EXPIRED_VOUCHER_QUERY, Collections.singletonMap("expiredAt", at), mapToVoucher);
     }
 
     @Override
@@ -64,6 +116,73 @@ public class JdbcVoucherRepository implements VoucherRepository {
         return namedParameterJdbcTemplate.query(FIND_ALL_QUERY, Collections.emptyMap(), mapToVoucher);
     }
 
+    @Override
+    public List<Voucher> findPage(UUID afterId, int limit) {
+        return namedParameterJdbcTemplate.query(FIND_PAGE_QUERY, toPageParamMap(afterId, limit), mapToVoucher);
+    }
+
+    @Override
+    public List<Voucher> findPageByCustomer(UUID customerId, UUID afterId, int limit) {
+        Map<String, Object> paramMap = toPageParamMap(afterId, limit);
+        paramMap.put("ownerId", toBytes(customerId));
+        return namedParameterJdbcTemplate.query(FIND_PAGE_BY_OWNER_QUERY, paramMap, mapToVoucher);
+    }
+
+    @Override
+    public List<Voucher> findExpiredPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return namedParameterJdbcTemplate.query(FIND_EXPIRED_PAGE_QUERY, toExpiryPageParamMap(at, after, limit), mapToVoucher);
+    }
+
+    @Override
+    public List<UUID> findIdsByCustomer(UUID customerId) {
+        return namedParameterJdbcTemplate.query(FIND_IDS_BY_OWNER_QUERY, Collections.singletonMap("ownerId", toBytes(customerId)), mapToVoucherId);
+    }
+
+    @Override
+    public List<UUID> findExpiredIds(LocalDateTime at) {
+        return namedParameterJdbcTemplate.query(FIND_EXPIRED_IDS_QUERY, Collections.singletonMap("expiredAt", at), mapToVoucherId);
+    }
+
+    @Override
+    public List<VoucherExpiry> findExpiryPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return namedParameterJdbcTemplate.query(FIND_EXPIRY_PAGE_QUERY, toExpiryPageParamMap(at, after, limit), mapToVoucherExpiry);
+    }
+
+    @Override
+    public Optional<VoucherStatus> findStatusById(UUID voucherId) {
+        try {
+            return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(
+                    FIND_STATUS_BY_ID_QUERY,
+                    Collections.singletonMap("voucherId", toBytes(voucherId)),
+                    mapToVoucherStatus));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<VoucherSummary> findSummaries() {
+        return namedParameterJdbcTemplate.query(FIND_SUMMARIES_QUERY, Collections.emptyMap(), mapToVoucherSummary);
+    }
+
+    @Override
+    public Stream<Voucher> streamByCustomer(UUID customerId) {
+        return streamingJdbcTemplate.queryForStream(
+                FIND_BY_OWNER_QUERY,
+                Collections.singletonMap("ownerId", toBytes(customerId)),
+                mapToVoucher);
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers(LocalDateTime at) {
+        return streamingJdbcTemplate.queryForStream(FIND_EXPIRED_VOUCHER_QUERY, Collections.singletonMap("expiredAt", at), mapToVoucher);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return streamingJdbcTemplate.queryForStream(FIND_ALL_QUERY, Collections.emptyMap(), mapToVoucher);
+    }
+
     @Override
     public Voucher insert(Voucher voucher) {
         try {
@@ -86,9 +205,93 @@ public class JdbcVoucherRepository implements VoucherRepository {
         return voucher;
     }
 
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        List<Voucher> batch = List.copyOf(vouchers);
+        try {
+            executeBatch(INSERT_QUERY, batch, "바우처 생성 과정에서 문제가 발생했습니다.");
+            return batch;
+        } catch (DuplicateKeyException e) {
+            throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+        }
+    }
+
+    @Override
+    public List<Voucher> updateAll(Collection<Voucher> vouchers) {
+        List<Voucher> batch = List.copyOf(vouchers);
+        executeBatch(UPDATE_QUERY, batch, "바우처 수정 과정에서 문제가 발생했습니다.");
+        return batch;
+    }
+
+    @Override
+    public boolean markUsedIfUnused(UUID voucherId) {
+        return updateIf(MARK_USED_IF_UNUSED_QUERY, voucherId, Collections.singletonMap("voucherId", toBytes(voucherId)));
+    }
+
+    @Override
+    public boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId) {
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("voucherId", toBytes(voucherId));
+        paramMap.put("ownerId", toBytes(ownerId));
+        return updateIf(ASSIGN_OWNER_IF_UNOWNED_QUERY, voucherId, paramMap);
+    }
+
+    @Override
+    public int markUsedIfUnused(Collection<UUID> voucherIds) {
+        return updateAllIf(MARK_ALL_USED_IF_UNUSED_QUERY, voucherIds, new HashMap<>());
+    }
+
+    @Override
+    public int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("ownerId", toBytes(ownerId));
+        return updateAllIf(ASSIGN_OWNER_TO_ALL_IF_UNOWNED_QUERY, voucherIds, paramMap);
+    }
+
+    @Override
+    public int detachAllFromOwner(UUID ownerId) {
+        return namedParameterJdbcTemplate.update(DETACH_ALL_FROM_OWNER_QUERY, Collections.singletonMap("ownerId", toBytes(ownerId)));
+    }
+
+    @Override
+    public int archiveAll(Collection<UUID> voucherIds, LocalDateTime expiredBefore) {
+        List<UUID> batch = List.copyOf(new LinkedHashSet<>(voucherIds));
+        LocalDateTime archivedAt = LocalDateTime.now();
+        int archived = 0;
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            Map<String, Object> paramMap = new HashMap<>();
+            paramMap.put("voucherIds", batch.subList(from, Math.min(from + batchSize, batch.size())).stream()
+                    .map(TypeConversionUtils::toBytes)
+                    .collect(Collectors.toList()));
+            paramMap.put("expiredAt", expiredBefore);
+            List<byte[]> lockedIds = namedParameterJdbcTemplate.query(LOCK_ARCHIVE_TARGETS_QUERY, paramMap, (resultSet, rowNum) -> resultSet.getBytes(1));
+            if (lockedIds.isEmpty()) {
+                continue;
+            }
+
+            paramMap.put("voucherIds", lockedIds);
+            paramMap.put("archivedAt", archivedAt);
+            namedParameterJdbcTemplate.update(ARCHIVE_QUERY, paramMap);
+            archived += namedParameterJdbcTemplate.update(DELETE_ARCHIVED_QUERY, paramMap);
+        }
+        return archived;
+    }
+
+    @Override
+    public Optional<Voucher> findArchivedById(UUID voucherId) {
+        try {
+            return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(
+                    FIND_ARCHIVED_BY_ID_QUERY,
+                    Collections.singletonMap("voucherId", toBytes(voucherId)),
+                    mapToVoucher));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void delete(UUID voucherId) {
-        int result = namedParameterJdbcTemplate.update(DELETE_QUERY, Collections.singletonMap("voucherId", voucherId.toString().getBytes()));
+        int result = namedParameterJdbcTemplate.update(DELETE_QUERY, Collections.singletonMap("voucherId", toBytes(voucherId)));
         if (result != 1) {
             throw new VoucherBadRequestException("바우처 삭제 과정에서 문제가 발생했습니다.");
         }
@@ -99,11 +302,60 @@ public class JdbcVoucherRepository implements VoucherRepository {
         namedParameterJdbcTemplate.update(DELETE_ALL_ROWS_QUERY, Collections.emptyMap());
     }
 
+    private boolean updateIf(String query, UUID voucherId, Map<String, Object> paramMap) {
+        if (namedParameterJdbcTemplate.update(query, paramMap) == 1) {
+            return true;
+        }
+        Boolean exists = namedParameterJdbcTemplate.queryForObject(EXISTS_QUERY, Collections.singletonMap("voucherId", toBytes(voucherId)), Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new VoucherNotFoundException();
+        }
+        return false;
+    }
+
+    private int updateAllIf(String query, Collection<UUID> voucherIds, Map<String, Object> paramMap) {
+        List<UUID> batch = List.copyOf(new LinkedHashSet<>(voucherIds));
+        int changed = 0;
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            paramMap.put("voucherIds", batch.subList(from, Math.min(from + batchSize, batch.size())).stream()
+                    .map(TypeConversionUtils::toBytes)
+                    .collect(Collectors.toList()));
+            changed += namedParameterJdbcTemplate.update(query, paramMap);
+        }
+        return changed;
+    }
+
+    private void executeBatch(String query, List<Voucher> batch, String failureMessage) {
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            SqlParameterSource[] parameters = batch.subList(from, Math.min(from + batchSize, batch.size())).stream()
+                    .map(entity -> new MapSqlParameterSource(toParamMap(entity)))
+                    .toArray(SqlParameterSource[]::new);
+            for (int result : namedParameterJdbcTemplate.batchUpdate(query, parameters)) {
+                if (result != 1 && result != Statement.SUCCESS_NO_INFO) {
+                    throw new VoucherBadRequestException(failureMessage);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> toPageParamMap(UUID afterId, int limit) {
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("afterId", toBytes((afterId == null) ? FIRST_PAGE_AFTER_ID : afterId));
+        paramMap.put("limit", limit);
+        return paramMap;
+    }
+
+    private static Map<String, Object> toExpiryPageParamMap(LocalDateTime at, VoucherExpiry after, int limit) {
+        Map<String, Object> paramMap = toPageParamMap((after == null) ? null : after.getVoucherId(), limit);
+        paramMap.put("expiredAt", at);
+        paramMap.put("afterExpiredAt", (after == null) ? FIRST_PAGE_AFTER_EXPIRED_AT : after.getExpiredAt());
+        return paramMap;
+    }
 
     private static Map<String, Object> toParamMap(Voucher voucher) {
         return new HashMap<>() {{
-            put("voucherId", voucher.getVoucherId().toString().getBytes());
-            put("ownerId", voucher.getOwnerId() == null? null: voucher.getOwnerId().toString().getBytes());
+            put("voucherId", toBytes(voucher.getVoucherId()));
+            put("ownerId", voucher.getOwnerId() == null? null: toBytes(voucher.getOwnerId()));
             put("amount", voucher.getAmount());
             put("type", voucher.getType().toString());
             put("createdAt", (voucher.getCreatedAt()));
@@ -113,14 +365,31 @@ public class JdbcVoucherRepository implements VoucherRepository {
     }
 
     private static final RowMapper<Voucher> mapToVoucher = (resultSet, rowNum) -> {
-        UUID voucherId = toUUID(resultSet.getBytes("voucher_id"));
-        UUID customerId = resultSet.getBytes("owner_id") == null? null: toUUID(resultSet.getBytes("owner_id"));
-        long amount = resultSet.getLong("amount");
-        VoucherType type = VoucherType.of(resultSet.getString("type"));
-        LocalDateTime createdAt = resultSet.getTimestamp("created_at").toLocalDateTime();
-        LocalDateTime expiredAt = resultSet.getTimestamp("expired_at").toLocalDateTime();
-        boolean used = resultSet.getBoolean("used");
-
-        return VoucherMapper.mapToVoucher(type, voucherId, customerId, amount, createdAt, expiredAt, used);
+        UUID voucherId = toUUID(resultSet.getBytes(1));
+        byte[] ownerId = resultSet.getBytes(2);
+        long amount = resultSet.getLong(3);
+        VoucherType type = VoucherType.of(resultSet.getString(4));
+        LocalDateTime createdAt = resultSet.getTimestamp(5).toLocalDateTime();
+        LocalDateTime expiredAt = resultSet.getTimestamp(6).toLocalDateTime();
+        boolean used = resultSet.getBoolean(7);
+
+        return VoucherMapper.mapToVoucher(type, voucherId, (ownerId == null) ? null : toUUID(ownerId), amount, createdAt, expiredAt, used);
+    };
+
+    private static final RowMapper<UUID> mapToVoucherId = (resultSet, rowNum) -> toUUID(resultSet.getBytes(1));
+
+    private static final RowMapper<VoucherExpiry> mapToVoucherExpiry = (resultSet, rowNum) ->
+            new VoucherExpiry(toUUID(resultSet.getBytes(1)), resultSet.getTimestamp(2).toLocalDateTime());
+
+    private static final RowMapper<VoucherStatus> mapToVoucherStatus = (resultSet, rowNum) -> {
+        byte[] ownerId = resultSet.getBytes(2);
+        return new VoucherStatus(toUUID(resultSet.getBytes(1)), (ownerId == null) ? null : toUUID(ownerId), resultSet.getBoolean(3));
     };
+
+    private static final RowMapper<VoucherSummary> mapToVoucherSummary = (resultSet, rowNum) -> new VoucherSummary(
+            toUUID(resultSet.getBytes(1)),
+            VoucherType.of(resultSet.getString(2)),
+            resultSet.getLong(3),
+            resultSet.getTimestamp(4).toLocalDateTime(),
+            resultSet.getBoolean(5));
 }
@@ -0,0 +1,474 @@
+package org.prgrms.java.repository.voucher;
+
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherType;
+import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.repository.support.SecondaryIndex;
+import org.prgrms.java.repository.support.SortedIndex;
+import org.prgrms.java.service.mapper.VoucherMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Repository
+public class MappedVoucherRepository implements VoucherRepository {
+    private static final int MAGIC = 0x56434852;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_SIZE = 8;
+    private static final int HEADER_SLOT_COUNT = 16;
+
+    private static final int RECORD_SIZE = 72;
+    private static final int STATUS = 0;
+    private static final int TYPE = 1;
+    private static final int USED = 2;
+    private static final int HAS_OWNER = 3;
+    private static final int CREATED_AT_NANO = 4;
+    private static final int VOUCHER_ID = 8;
+    private static final int OWNER_ID = 24;
+    private static final int AMOUNT = 40;
+    private static final int CREATED_AT_SECOND = 48;
+    private static final int EXPIRED_AT_SECOND = 56;
+    private static final int EXPIRED_AT_NANO = 64;
+
+    private static final byte FREE = 0;
+    private static final byte LIVE = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final VoucherType[] TYPES = VoucherType.values();
+
+    private final FileChannel channel;
+    private final Map<UUID, Integer> index = new HashMap<>();
+    private final SecondaryIndex<UUID> ownerIndex = new SecondaryIndex<>();
+    private final SortedIndex<LocalDateTime> expiryIndex = new SortedIndex<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int slotCount;
+    private final static Logger logger = LoggerFactory.getLogger(MappedVoucherRepository.class);
+
+    public MappedVoucherRepository(@Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.voucher-binary}") String DATA_NAME) {
+        logger.debug("저장 파일 생성 중...");
+        try {
+            Path path = Path.of(DATA_PATH, DATA_NAME);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            boolean isNewFile = channel.size() < HEADER_SIZE;
+            int storedCapacity = isNewFile ? INITIAL_CAPACITY : (int) ((channel.size() - HEADER_SIZE) / RECORD_SIZE);
+            map(Math.max(storedCapacity, INITIAL_CAPACITY));
+            if (isNewFile) {
+                buffer.putInt(HEADER_MAGIC, MAGIC);
+                buffer.putInt(HEADER_VERSION, VERSION);
+                buffer.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+                buffer.putInt(HEADER_SLOT_COUNT, 0);
+                forceHeader();
+            } else if (buffer.getInt(HEADER_MAGIC) != MAGIC || buffer.getInt(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+                throw new VoucherBadRequestException("손상된 바우처 데이터입니다.");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        slotCount = buffer.getInt(HEADER_SLOT_COUNT);
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = offsetOf(slot);
+            if (buffer.get(base + STATUS) == LIVE) {
+                UUID voucherId = new UUID(buffer.getLong(base + VOUCHER_ID), buffer.getLong(base + VOUCHER_ID + 8));
+                index.put(voucherId, slot);
+                ownerIndex.put(voucherId, readOwnerId(base));
+                expiryIndex.put(voucherId, readExpiredAt(base));
+            } else {
+                freeSlots.push(slot);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Voucher> findById(UUID voucherId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = index.get(voucherId);
+            return (slot == null) ? Optional.empty() : Optional.of(read(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findByCustomer(UUID customerId) {
+        return streamByCustomer(customerId).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findExpiredVouchers(LocalDateTime at) {
+        return streamExpiredVouchers(at).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return findLiveVouchers(base -> true);
+    }
+
+    @Override
+    public List<UUID> findIdsByCustomer(UUID customerId) {
+        return List.copyOf(ownerIndex.find(customerId));
+    }
+
+    @Override
+    public Stream<Voucher> streamByCustomer(UUID customerId) {
+        return ownerIndex.find(customerId).stream()
+                .map(this::findById)
+                .flatMap(Optional::stream);
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers(LocalDateTime at) {
+        return expiryIndex.findBefore(at)
+                .map(this::findById)
+                .flatMap(Optional::stream);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        int slots;
+        lock.readLock().lock();
+        try {
+            slots = slotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return IntStream.range(0, slots)
+                .mapToObj(this::readIfLive)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Voucher insert(Voucher voucher) {
+        lock.writeLock().lock();
+        try {
+            if (index.containsKey(voucher.getVoucherId())) {
+                throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+            }
+
+            int slot = freeSlots.isEmpty() ? allocateSlot() : freeSlots.pop();
+            int base = offsetOf(slot);
+            buffer.putLong(base + VOUCHER_ID, voucher.getVoucherId().getMostSignificantBits());
+            buffer.putLong(base + VOUCHER_ID + 8, voucher.getVoucherId().getLeastSignificantBits());
+            buffer.put(base + TYPE, (byte) voucher.getType().ordinal());
+            buffer.putLong(base + AMOUNT, voucher.getAmount());
+            buffer.putLong(base + CREATED_AT_SECOND, voucher.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(base + CREATED_AT_NANO, voucher.getCreatedAt().getNano());
+            writeMutableFields(base, voucher);
+            buffer.put(base + STATUS, LIVE);
+            forceSlot(slot);
+
+            index.put(voucher.getVoucherId(), slot);
+            ownerIndex.put(voucher.getVoucherId(), voucher.getOwnerId());
+            expiryIndex.put(voucher.getVoucherId(), voucher.getExpiredAt());
+            return voucher;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Voucher update(Voucher voucher) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = index.get(voucher.getVoucherId());
+            if (slot == null) {
+                throw new VoucherNotFoundException();
+            }
+            writeMutableFields(offsetOf(slot), voucher);
+            forceSlot(slot);
+            ownerIndex.put(voucher.getVoucherId(), voucher.getOwnerId());
+            expiryIndex.put(voucher.getVoucherId(), voucher.getExpiredAt());
+            return voucher;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean markUsedIfUnused(UUID voucherId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(voucherId);
+            int base = offsetOf(slot);
+            if (buffer.get(base + USED) == 1) {
+                return false;
+            }
+            buffer.put(base + USED, (byte) 1);
+            forceSlot(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(voucherId);
+            int base = offsetOf(slot);
+            if (buffer.get(base + HAS_OWNER) == 1) {
+                return false;
+            }
+            buffer.putLong(base + OWNER_ID, ownerId.getMostSignificantBits());
+            buffer.putLong(base + OWNER_ID + 8, ownerId.getLeastSignificantBits());
+            buffer.put(base + HAS_OWNER, (byte) 1);
+            forceSlot(slot);
+            ownerIndex.put(voucherId, ownerId);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int markUsedIfUnused(Collection<UUID> voucherIds) {
+        lock.writeLock().lock();
+        try {
+            List<Integer> changedSlots = new ArrayList<>();
+            for (UUID voucherId : new HashSet<>(voucherIds)) {
+                Integer slot = index.get(voucherId);
+                if (slot != null && buffer.get(offsetOf(slot) + USED) == 0) {
+                    buffer.put(offsetOf(slot) + USED, (byte) 1);
+                    changedSlots.add(slot);
+                }
+            }
+            forceSlots(changedSlots);
+            return changedSlots.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        lock.writeLock().lock();
+        try {
+            List<Integer> changedSlots = new ArrayList<>();
+            for (UUID voucherId : new HashSet<>(voucherIds)) {
+                Integer slot = index.get(voucherId);
+                if (slot == null) {
+                    continue;
+                }
+                int base = offsetOf(slot);
+                if (buffer.get(base + HAS_OWNER) == 0) {
+                    buffer.putLong(base + OWNER_ID, ownerId.getMostSignificantBits());
+                    buffer.putLong(base + OWNER_ID + 8, ownerId.getLeastSignificantBits());
+                    buffer.put(base + HAS_OWNER, (byte) 1);
+                    ownerIndex.put(voucherId, ownerId);
+                    changedSlots.add(slot);
+                }
+            }
+            forceSlots(changedSlots);
+            return changedSlots.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int detachAllFromOwner(UUID ownerId) {
+        lock.writeLock().lock();
+        try {
+            List<UUID> voucherIds = List.copyOf(ownerIndex.find(ownerId));
+            List<Integer> changedSlots = new ArrayList<>();
+            for (UUID voucherId : voucherIds) {
+                int slot = index.get(voucherId);
+                int base = offsetOf(slot);
+                buffer.put(base + HAS_OWNER, (byte) 0);
+                buffer.putLong(base + OWNER_ID, 0);
+                buffer.putLong(base + OWNER_ID + 8, 0);
+                ownerIndex.remove(voucherId);
+                changedSlots.add(slot);
+            }
+            forceSlots(changedSlots);
+            return voucherIds.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(UUID voucherId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = index.remove(voucherId);
+            if (slot == null) {
+                throw new VoucherNotFoundException();
+            }
+            buffer.put(offsetOf(slot) + STATUS, FREE);
+            forceSlot(slot);
+            freeSlots.push(slot);
+            ownerIndex.remove(voucherId);
+            expiryIndex.remove(voucherId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        lock.writeLock().lock();
+        try {
+            slotCount = 0;
+            buffer.putInt(HEADER_SLOT_COUNT, slotCount);
+            forceHeader();
+            index.clear();
+            ownerIndex.clear();
+            expiryIndex.clear();
+            freeSlots.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Voucher> findLiveVouchers(Predicate<Integer> filter) {
+        List<Voucher> vouchers = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                int base = offsetOf(slot);
+                if (buffer.get(base + STATUS) == LIVE && filter.test(base)) {
+                    vouchers.add(read(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return vouchers;
+    }
+
+    private Voucher readIfLive(int slot) {
+        lock.readLock().lock();
+        try {
+            return (slot < slotCount && buffer.get(offsetOf(slot) + STATUS) == LIVE) ? read(slot) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int slotOf(UUID voucherId) {
+        Integer slot = index.get(voucherId);
+        if (slot == null) {
+            throw new VoucherNotFoundException();
+        }
+        return slot;
+    }
+
+    private Voucher read(int slot) {
+        int base = offsetOf(slot);
+        UUID voucherId = new UUID(buffer.getLong(base + VOUCHER_ID), buffer.getLong(base + VOUCHER_ID + 8));
+        UUID ownerId = readOwnerId(base);
+        long amount = buffer.getLong(base + AMOUNT);
+        VoucherType type = TYPES[buffer.get(base + TYPE)];
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(base + CREATED_AT_SECOND), buffer.getInt(base + CREATED_AT_NANO), ZoneOffset.UTC);
+        LocalDateTime expiredAt = readExpiredAt(base);
+        boolean used = buffer.get(base + USED) == 1;
+
+        return VoucherMapper.mapToVoucher(type, voucherId, ownerId, amount, createdAt, expiredAt, used);
+    }
+
+    private UUID readOwnerId(int base) {
+        return (buffer.get(base + HAS_OWNER) == 1) ? new UUID(buffer.getLong(base + OWNER_ID), buffer.getLong(base + OWNER_ID + 8)) : null;
+    }
+
+    private LocalDateTime readExpiredAt(int base) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(base + EXPIRED_AT_SECOND), buffer.getInt(base + EXPIRED_AT_NANO), ZoneOffset.UTC);
+    }
+
+    private void writeMutableFields(int base, Voucher voucher) {
+        UUID ownerId = voucher.getOwnerId();
+        buffer.put(base + HAS_OWNER, (byte) (ownerId == null ? 0 : 1));
+        buffer.putLong(base + OWNER_ID, ownerId == null ? 0 : ownerId.getMostSignificantBits());
+        buffer.putLong(base + OWNER_ID + 8, ownerId == null ? 0 : ownerId.getLeastSignificantBits());
+        buffer.putLong(base + EXPIRED_AT_SECOND, voucher.getExpiredAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(base + EXPIRED_AT_NANO, voucher.getExpiredAt().getNano());
+        buffer.put(base + USED, (byte) (voucher.isUsed() ? 1 : 0));
+    }
+
+    private int allocateSlot() {
+        if (slotCount == capacity) {
+            map(capacity * 2);
+        }
+        int slot = slotCount++;
+        buffer.put(offsetOf(slot) + STATUS, FREE);
+        forceSlot(slot);
+        buffer.putInt(HEADER_SLOT_COUNT, slotCount);
+        forceHeader();
+        return slot;
+    }
+
+    private void forceHeader() {
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    private void forceSlot(int slot) {
+        buffer.force(offsetOf(slot), RECORD_SIZE);
+    }
+
+    private void forceSlots(Collection<Integer> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        int from = Collections.min(slots);
+        int to = Collections.max(slots);
+        buffer.force(offsetOf(from), (to - from + 1) * RECORD_SIZE);
+    }
+
+    private void map(int newCapacity) {
+        long size = HEADER_SIZE + (long) newCapacity * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Voucher store is full.");
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            capacity = newCapacity;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int offsetOf(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
@@ -1,18 +1,73 @@
 package org.prgrms.java.repository.voucher;
 
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
 import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.repository.support.BatchWriter;
+import org.prgrms.java.repository.support.ExpiryTracker;
+import org.prgrms.java.repository.support.KeysetIndex;
+import org.prgrms.java.repository.support.SecondaryIndex;
+import org.prgrms.java.repository.support.SnapshotJournal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class MemoryVoucherRepository implements VoucherRepository {
+    private static final long DEFAULT_EXPIRY_TICK_MILLIS = 1000;
+    private static final int DEFAULT_EXPIRY_BATCH_SIZE = 1000;
+    private static final int DEFAULT_BATCH_MAX_SIZE = 256;
+
     private final Map<UUID, Voucher> storage = new ConcurrentHashMap<>();
+    private final KeysetIndex keys = new KeysetIndex();
+    private final SecondaryIndex<UUID> ownerIndex = new SecondaryIndex<>();
+    private final ExpiryTracker expiryTracker;
+    private final SnapshotJournal<Voucher> journal;
+    private volatile Consumer<List<Voucher>> expiryListener;
+
+    public MemoryVoucherRepository() {
+        this(DEFAULT_EXPIRY_TICK_MILLIS, DEFAULT_EXPIRY_BATCH_SIZE);
+    }
+
+    public MemoryVoucherRepository(long EXPIRY_TICK_MILLIS, int EXPIRY_BATCH_SIZE) {
+        this(EXPIRY_TICK_MILLIS, EXPIRY_BATCH_SIZE, false, null, null, 0, DEFAULT_BATCH_MAX_SIZE, 0);
+    }
+
+    public MemoryVoucherRepository(String DATA_PATH, String DATA_NAME, long SNAPSHOT_INTERVAL) {
+        this(DEFAULT_EXPIRY_TICK_MILLIS, DEFAULT_EXPIRY_BATCH_SIZE, true, DATA_PATH, DATA_NAME, 0, DEFAULT_BATCH_MAX_SIZE, SNAPSHOT_INTERVAL);
+    }
+
+    @Autowired
+    public MemoryVoucherRepository(@Value("${prgrms.memory.expiry.tick-millis}") long EXPIRY_TICK_MILLIS, @Value("${prgrms.memory.expiry.batch-size}") int EXPIRY_BATCH_SIZE,
+                                   @Value("${prgrms.memory.persistence.enabled}") boolean PERSISTENCE_ENABLED, @Value("${prgrms.data.path}") String DATA_PATH, @Value("${prgrms.data.name.voucher-memory}") String DATA_NAME,
+                                   @Value("${prgrms.data.batch.window-millis}") long BATCH_WINDOW_MILLIS, @Value("${prgrms.data.batch.max-size}") int BATCH_MAX_SIZE,
+                                   @Value("${prgrms.memory.persistence.snapshot-interval}") long SNAPSHOT_INTERVAL) {
+        this.expiryTracker = new ExpiryTracker("voucher", EXPIRY_TICK_MILLIS, EXPIRY_BATCH_SIZE, this::notifyExpired);
+        if (PERSISTENCE_ENABLED) {
+            this.journal = new SnapshotJournal<>(Path.of(DATA_PATH), DATA_NAME, new VoucherSnapshotCodec(), Duration.ofMillis(BATCH_WINDOW_MILLIS), BATCH_MAX_SIZE, SNAPSHOT_INTERVAL, storage::values);
+            journal.recover(this::store, this::forget);
+        } else {
+            this.journal = null;
+        }
+    }
+
+    public void setExpiryListener(Consumer<List<Voucher>> expiryListener) {
+        this.expiryListener = expiryListener;
+    }
 
     @Override
     public Optional<Voucher> findById(UUID voucherId) {
@@ -21,16 +76,17 @@ public class MemoryVoucherRepository implements VoucherRepository {
 
     @Override
     public List<Voucher> findByCustomer(UUID customerId) {
-        return storage.values().stream()
-                .filter(voucher -> voucher.getOwnerId() == customerId)
-                .collect(Collectors.toList());
+        return streamByCustomer(customerId).collect(Collectors.toList());
     }
 
     @Override
     public List<Voucher> findExpiredVouchers() {
-        return storage.values().stream()
-                .filter(voucher -> voucher.getExpiredAt().isBefore(LocalDateTime.now()))
-                .collect(Collectors.toList());
+        return streamExpiredVouchers().collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findExpiredVouchers(LocalDateTime at) {
+        return streamExpiredVouchers(at).collect(Collectors.toList());
     }
 
     @Override
@@ -38,34 +94,312 @@ public class MemoryVoucherRepository implements VoucherRepository {
         return List.copyOf(storage.values());
     }
 
+    @Override
+    public List<Voucher> findPage(UUID afterId, int limit) {
+        return keys.after(afterId)
+                .map(storage::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findPageByCustomer(UUID customerId, UUID afterId, int limit) {
+        return KeysetIndex.after(ownerIndex.find(customerId), afterId)
+                .map(storage::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Voucher> findExpiredPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return findExpiryPage(at, after, limit).stream()
+                .map(expiry -> storage.get(expiry.getVoucherId()))
+                .filter(voucher -> voucher != null && voucher.getExpiredAt().isBefore(at))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<VoucherExpiry> findExpiryPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return expiryTracker.findPage(at, (after == null) ? null : after.getExpiredAt(), (after == null) ? null : after.getVoucherId(), limit).stream()
+                .map(entry -> new VoucherExpiry(entry.id(), entry.key()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UUID> findIdsByCustomer(UUID customerId) {
+        return List.copyOf(ownerIndex.find(customerId));
+    }
+
+    @Override
+    public Stream<Voucher> streamByCustomer(UUID customerId) {
+        return ownerIndex.find(customerId).stream()
+                .map(storage::get)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers() {
+        return expiryTracker.findExpired()
+                .map(storage::get)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<Voucher> streamExpiredVouchers(LocalDateTime at) {
+        return expiryTracker.findBefore(at)
+                .map(storage::get)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Stream<Voucher> streamAll() {
+        return storage.values().stream();
+    }
+
     @Override
     public Voucher insert(Voucher voucher) {
-        if (findById(voucher.getVoucherId()).isPresent()) {
-            throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
-        }
-        storage.put(voucher.getVoucherId(), voucher);
-        return storage.get(voucher.getVoucherId());
+        return persist(voucher, () -> storage.compute(voucher.getVoucherId(), (voucherId, existing) -> {
+            if (existing != null) {
+                throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+            }
+            index(voucher);
+            return voucher;
+        }));
+    }
+
+    @Override
+    public List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        List<Voucher> batch = List.copyOf(vouchers);
+        return persistAll(batch, () -> {
+            List<Voucher> inserted = new ArrayList<>(batch.size());
+            for (Voucher voucher : batch) {
+                if (storage.putIfAbsent(voucher.getVoucherId(), voucher) != null) {
+                    inserted.forEach(rollback -> forget(rollback.getVoucherId()));
+                    throw new VoucherBadRequestException("이미 존재하는 아이디입니다.");
+                }
+                index(voucher);
+                inserted.add(voucher);
+            }
+            return batch;
+        });
     }
 
     @Override
     public Voucher update(Voucher voucher) {
-        if (findById(voucher.getVoucherId()).isEmpty()) {
-            throw new VoucherNotFoundException();
-        }
-        storage.put(voucher.getVoucherId(), voucher);
-        return storage.get(voucher.getVoucherId());
+        return persist(voucher, () -> {
+            Voucher updated = storage.computeIfPresent(voucher.getVoucherId(), (voucherId, existing) -> {
+                index(voucher);
+                return voucher;
+            });
+            if (updated == null) {
+                throw new VoucherNotFoundException();
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public List<Voucher> updateAll(Collection<Voucher> vouchers) {
+        List<Voucher> batch = List.copyOf(vouchers);
+        return persistAll(batch, () -> {
+            if (!batch.stream().allMatch(voucher -> storage.containsKey(voucher.getVoucherId()))) {
+                throw new VoucherNotFoundException();
+            }
+            for (Voucher voucher : batch) {
+                storage.computeIfPresent(voucher.getVoucherId(), (voucherId, existing) -> {
+                    index(voucher);
+                    return voucher;
+                });
+            }
+            return batch;
+        });
     }
 
     @Override
     public void delete(UUID voucherId) {
-        if (findById(voucherId).isEmpty()) {
-            throw new VoucherNotFoundException();
+        Runnable mutation = () -> {
+            AtomicBoolean removed = new AtomicBoolean();
+            storage.computeIfPresent(voucherId, (id, existing) -> {
+                unindex(id);
+                removed.set(true);
+                return null;
+            });
+            if (!removed.get()) {
+                throw new VoucherNotFoundException();
+            }
+        };
+        if (journal == null) {
+            mutation.run();
+        } else {
+            journal.delete(voucherId, mutation);
         }
-        storage.remove(voucherId);
+    }
+
+    public boolean compareAndSetOwner(UUID voucherId, UUID expectedOwnerId, UUID newOwnerId) {
+        return updateIf(voucherId, voucher -> {
+            if (!Objects.equals(voucher.getOwnerId(), expectedOwnerId)) {
+                return false;
+            }
+            voucher.setOwnerId(newOwnerId);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId) {
+        return compareAndSetOwner(voucherId, null, ownerId);
+    }
+
+    @Override
+    public boolean markUsedIfUnused(UUID voucherId) {
+        return updateIf(voucherId, voucher -> {
+            if (voucher.isUsed()) {
+                return false;
+            }
+            voucher.setUsed(true);
+            return true;
+        });
+    }
+
+    @Override
+    public int markUsedIfUnused(Collection<UUID> voucherIds) {
+        return updateAllIf(voucherIds, voucher -> {
+            if (voucher.isUsed()) {
+                return false;
+            }
+            voucher.setUsed(true);
+            return true;
+        });
+    }
+
+    @Override
+    public int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        return updateAllIf(voucherIds, voucher -> {
+            if (voucher.getOwnerId() != null) {
+                return false;
+            }
+            voucher.setOwnerId(ownerId);
+            return true;
+        });
+    }
+
+    @Override
+    public int detachAllFromOwner(UUID ownerId) {
+        return updateAllIf(List.copyOf(ownerIndex.find(ownerId)), voucher -> {
+            if (!ownerId.equals(voucher.getOwnerId())) {
+                return false;
+            }
+            voucher.setOwnerId(null);
+            return true;
+        });
     }
 
     @Override
     public void deleteAll() {
+        if (journal == null) {
+            reset();
+        } else {
+            journal.clear(this::reset);
+        }
+    }
+
+    public Optional<BatchWriter.Metrics> getWriterMetrics() {
+        return Optional.ofNullable(journal).map(SnapshotJournal::getWriterMetrics);
+    }
+
+    @PreDestroy
+    public void close() {
+        expiryTracker.close();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private <R> R persist(Voucher voucher, Supplier<R> mutation) {
+        return (journal == null) ? mutation.get() : journal.put(voucher, mutation);
+    }
+
+    private <R> R persistAll(Collection<Voucher> vouchers, Supplier<R> mutation) {
+        return (journal == null) ? mutation.get() : journal.putAll(vouchers, mutation);
+    }
+
+    private <C extends Collection<Voucher>> C persistChanged(Supplier<C> mutation) {
+        return (journal == null) ? mutation.get() : journal.putChanged(mutation);
+    }
+
+    private boolean updateIf(UUID voucherId, Predicate<Voucher> change) {
+        List<Voucher> changed = persistChanged(() -> {
+            List<Voucher> applied = new ArrayList<>(1);
+            Voucher current = storage.computeIfPresent(voucherId, (id, existing) -> {
+                if (change.test(existing)) {
+                    index(existing);
+                    applied.add(existing);
+                }
+                return existing;
+            });
+            if (current == null) {
+                throw new VoucherNotFoundException();
+            }
+            return applied;
+        });
+        return !changed.isEmpty();
+    }
+
+    private int updateAllIf(Collection<UUID> voucherIds, Predicate<Voucher> change) {
+        Set<UUID> batch = new LinkedHashSet<>(voucherIds);
+        return persistChanged(() -> {
+            List<Voucher> applied = new ArrayList<>();
+            for (UUID voucherId : batch) {
+                storage.computeIfPresent(voucherId, (id, existing) -> {
+                    if (change.test(existing)) {
+                        index(existing);
+                        applied.add(existing);
+                    }
+                    return existing;
+                });
+            }
+            return applied;
+        }).size();
+    }
+
+    private void store(Voucher voucher) {
+        storage.put(voucher.getVoucherId(), voucher);
+        index(voucher);
+    }
+
+    private void forget(UUID voucherId) {
+        storage.remove(voucherId);
+        unindex(voucherId);
+    }
+
+    private void index(Voucher voucher) {
+        keys.add(voucher.getVoucherId());
+        ownerIndex.put(voucher.getVoucherId(), voucher.getOwnerId());
+        expiryTracker.put(voucher.getVoucherId(), voucher.getExpiredAt());
+    }
+
+    private void unindex(UUID voucherId) {
+        keys.remove(voucherId);
+        ownerIndex.remove(voucherId);
+        expiryTracker.remove(voucherId);
+    }
+
+    private void reset() {
         storage.clear();
+        keys.clear();
+        ownerIndex.clear();
+        expiryTracker.clear();
+    }
+
+    private void notifyExpired(List<UUID> voucherIds) {
+        Consumer<List<Voucher>> listener = expiryListener;
+        if (listener != null) {
+            listener.accept(voucherIds.stream()
+                    .map(storage::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+        }
     }
 }
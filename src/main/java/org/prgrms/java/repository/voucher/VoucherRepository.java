@@ -1,26 +1,144 @@
 package org.prgrms.java.repository.voucher;
 
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.repository.support.KeysetIndex;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface VoucherRepository {
 
     Voucher insert(Voucher voucher);
 
+    default List<Voucher> insertAll(Collection<Voucher> vouchers) {
+        return vouchers.stream().map(this::insert).collect(Collectors.toList());
+    }
+
     Optional<Voucher> findById(UUID voucherId);
 
     List<Voucher> findByCustomer(UUID customerId);
 
-    List<Voucher> findExpiredVouchers();
+    default List<Voucher> findExpiredVouchers() {
+        return findExpiredVouchers(LocalDateTime.now());
+    }
+
+    List<Voucher> findExpiredVouchers(LocalDateTime at);
 
     List<Voucher> findAll();
 
+    default List<Voucher> findPage(UUID afterId, int limit) {
+        try (Stream<Voucher> vouchers = streamAll()) {
+            return KeysetIndex.page(vouchers, Voucher::getVoucherId, afterId, limit).collect(Collectors.toList());
+        }
+    }
+
+    default List<Voucher> findPageByCustomer(UUID customerId, UUID afterId, int limit) {
+        try (Stream<Voucher> vouchers = streamByCustomer(customerId)) {
+            return KeysetIndex.page(vouchers, Voucher::getVoucherId, afterId, limit).collect(Collectors.toList());
+        }
+    }
+
+    default List<Voucher> findExpiredPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        try (Stream<Voucher> vouchers = streamExpiredVouchers(at)) {
+            return KeysetIndex.page(vouchers, Voucher::getExpiredAt, Voucher::getVoucherId,
+                    (after == null) ? null : after.getExpiredAt(), (after == null) ? null : after.getVoucherId(), limit).collect(Collectors.toList());
+        }
+    }
+
+    default List<UUID> findIdsByCustomer(UUID customerId) {
+        try (Stream<Voucher> vouchers = streamByCustomer(customerId)) {
+            return vouchers.map(Voucher::getVoucherId).collect(Collectors.toList());
+        }
+    }
+
+    default List<UUID> findExpiredIds(LocalDateTime at) {
+        try (Stream<Voucher> vouchers = streamExpiredVouchers(at)) {
+            return vouchers.map(Voucher::getVoucherId).collect(Collectors.toList());
+        }
+    }
+
+    default List<VoucherExpiry> findExpiryPage(LocalDateTime at, VoucherExpiry after, int limit) {
+        return findExpiredPage(at, after, limit).stream()
+                .map(VoucherExpiry::of)
+                .collect(Collectors.toList());
+    }
+
+    default Optional<VoucherStatus> findStatusById(UUID voucherId) {
+        return findById(voucherId).map(VoucherStatus::of);
+    }
+
+    default List<VoucherSummary> findSummaries() {
+        try (Stream<Voucher> vouchers = streamAll()) {
+            return vouchers.map(VoucherSummary::of).collect(Collectors.toList());
+        }
+    }
+
+    Stream<Voucher> streamByCustomer(UUID customerId);
+
+    default Stream<Voucher> streamExpiredVouchers() {
+        return streamExpiredVouchers(LocalDateTime.now());
+    }
+
+    Stream<Voucher> streamExpiredVouchers(LocalDateTime at);
+
+    Stream<Voucher> streamAll();
+
     Voucher update(Voucher voucher);
 
+    default List<Voucher> updateAll(Collection<Voucher> vouchers) {
+        return vouchers.stream().map(this::update).collect(Collectors.toList());
+    }
+
+    boolean markUsedIfUnused(UUID voucherId);
+
+    boolean assignOwnerIfUnowned(UUID voucherId, UUID ownerId);
+
+    default int markUsedIfUnused(Collection<UUID> voucherIds) {
+        return countChanged(voucherIds, this::markUsedIfUnused);
+    }
+
+    default int assignOwnerIfUnowned(Collection<UUID> voucherIds, UUID ownerId) {
+        return countChanged(voucherIds, voucherId -> assignOwnerIfUnowned(voucherId, ownerId));
+    }
+
+    default int detachAllFromOwner(UUID ownerId) {
+        List<Voucher> vouchers = findByCustomer(ownerId);
+        vouchers.forEach(voucher -> voucher.setOwnerId(null));
+        return updateAll(vouchers).size();
+    }
+
+    default int archiveAll(Collection<UUID> voucherIds, LocalDateTime expiredBefore) {
+        return 0;
+    }
+
+    default Optional<Voucher> findArchivedById(UUID voucherId) {
+        return Optional.empty();
+    }
+
     void delete(UUID voucherId);
 
     void deleteAll();
+
+    private static int countChanged(Collection<UUID> voucherIds, Predicate<UUID> change) {
+        int changed = 0;
+        for (UUID voucherId : voucherIds) {
+            try {
+                if (change.test(voucherId)) {
+                    changed++;
+                }
+            } catch (VoucherNotFoundException ignored) {
+            }
+        }
+        return changed;
+    }
 }
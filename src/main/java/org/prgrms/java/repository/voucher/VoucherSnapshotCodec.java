@@ -0,0 +1,60 @@
+package org.prgrms.java.repository.voucher;
+
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherType;
+import org.prgrms.java.repository.support.SnapshotJournal;
+import org.prgrms.java.service.mapper.VoucherMapper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+class VoucherSnapshotCodec implements SnapshotJournal.Codec<Voucher> {
+    private static final VoucherType[] TYPES = VoucherType.values();
+
+    @Override
+    public UUID idOf(Voucher voucher) {
+        return voucher.getVoucherId();
+    }
+
+    @Override
+    public void write(DataOutput output, Voucher voucher) throws IOException {
+        output.writeLong(voucher.getVoucherId().getMostSignificantBits());
+        output.writeLong(voucher.getVoucherId().getLeastSignificantBits());
+        output.writeBoolean(voucher.getOwnerId() != null);
+        if (voucher.getOwnerId() != null) {
+            output.writeLong(voucher.getOwnerId().getMostSignificantBits());
+            output.writeLong(voucher.getOwnerId().getLeastSignificantBits());
+        }
+        output.writeLong(voucher.getAmount());
+        output.writeByte(voucher.getType().ordinal());
+        writeDateTime(output, voucher.getCreatedAt());
+        writeDateTime(output, voucher.getExpiredAt());
+        output.writeBoolean(voucher.isUsed());
+    }
+
+    @Override
+    public Voucher read(DataInput input) throws IOException {
+        UUID voucherId = new UUID(input.readLong(), input.readLong());
+        UUID ownerId = input.readBoolean() ? new UUID(input.readLong(), input.readLong()) : null;
+        long amount = input.readLong();
+        VoucherType type = TYPES[input.readByte()];
+        LocalDateTime createdAt = readDateTime(input);
+        LocalDateTime expiredAt = readDateTime(input);
+        boolean used = input.readBoolean();
+
+        return VoucherMapper.mapToVoucher(type, voucherId, ownerId, amount, createdAt, expiredAt, used);
+    }
+
+    private static void writeDateTime(DataOutput output, LocalDateTime dateTime) throws IOException {
+        output.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInput input) throws IOException {
+        return LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -1,5 +1,6 @@
 package org.prgrms.java.service;
 
+import org.prgrms.java.common.UuidGenerator;
 import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.notfound.CustomerNotFoundException;
 import org.prgrms.java.exception.notfound.NotFoundException;
@@ -23,7 +24,7 @@ public class CustomerService {
 
     public Customer createCustomer(String name, String email) {
         Customer customer = Customer.builder()
-                .customerId(UUID.randomUUID())
+                .customerId(UuidGenerator.generate())
                 .name(name)
                 .email(email)
                 .createdAt(LocalDateTime.now())
@@ -33,6 +34,7 @@ public class CustomerService {
         return customerRepository.save(customer);
     }
 
+    @Transactional(readOnly = true)
     public Customer getCustomer(String column, String value) {
         return switch (column) {
             case "id" -> getCustomerById(UUID.fromString(value));
@@ -42,36 +44,42 @@ public class CustomerService {
         };
     }
 
+    @Transactional(readOnly = true)
     public Customer getCustomerById(UUID customerId) {
         return customerRepository.findById(customerId)
                 .filter(customer -> !customer.isBlocked())
                 .orElseThrow(CustomerNotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
     public Customer getCustomerByName(String name) {
         return customerRepository.findByName(name)
                 .filter(customer -> !customer.isBlocked())
                 .orElseThrow(CustomerNotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
     public Customer getCustomerByEmail(String email) {
         return customerRepository.findByEmail(email)
                 .filter(customer -> !customer.isBlocked())
                 .orElseThrow(CustomerNotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
     public List<Customer> getAllCustomers() {
         return customerRepository.findAll().stream()
                 .filter(customer -> !customer.isBlocked())
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Customer getBlackCustomerById(UUID customerId) {
         return customerRepository.findById(customerId)
                 .filter(Customer::isBlocked)
                 .orElseThrow(CustomerNotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
     public List<Customer> getAllBlackCustomers() {
         return customerRepository.findAll().stream()
                 .filter(Customer::isBlocked)
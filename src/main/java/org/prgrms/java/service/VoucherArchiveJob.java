@@ -0,0 +1,152 @@
+package org.prgrms.java.service;
+
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class VoucherArchiveJob {
+    private static final String CHECKPOINT_DELIMITER = ",";
+
+    private final VoucherService voucherService;
+    private final Path checkpointPath;
+    private final Duration retention;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final double throttleRatio;
+    private final ScheduledExecutorService scheduler;
+    private final static Logger logger = LoggerFactory.getLogger(VoucherArchiveJob.class);
+
+    public VoucherArchiveJob(VoucherService voucherService, @Value("${prgrms.data.path}") String DATA_PATH,
+                             @Value("${prgrms.archive.checkpoint-name}") String CHECKPOINT_NAME, @Value("${prgrms.archive.enabled}") boolean ENABLED,
+                             @Value("${prgrms.archive.interval-millis}") long INTERVAL_MILLIS, @Value("${prgrms.archive.retention-days}") long RETENTION_DAYS,
+                             @Value("${prgrms.archive.chunk-size}") int CHUNK_SIZE, @Value("${prgrms.archive.pause-millis}") long PAUSE_MILLIS,
+                             @Value("${prgrms.archive.throttle-ratio}") double THROTTLE_RATIO) {
+        this.voucherService = voucherService;
+        this.checkpointPath = Path.of(DATA_PATH, CHECKPOINT_NAME);
+        this.retention = Duration.ofDays(RETENTION_DAYS);
+        this.chunkSize = CHUNK_SIZE;
+        this.pauseMillis = PAUSE_MILLIS;
+        this.throttleRatio = THROTTLE_RATIO;
+        if (!ENABLED) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-archive-job");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::tick, INTERVAL_MILLIS, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized int run() {
+        Checkpoint checkpoint = loadCheckpoint().orElseGet(() -> new Checkpoint(LocalDateTime.now().minus(retention), null));
+        int archived = 0;
+        while (true) {
+            long startedAt = System.nanoTime();
+            List<VoucherExpiry> expiries = voucherService.getExpiryPage(checkpoint.expiredBefore(), checkpoint.after(), chunkSize);
+            if (expiries.isEmpty()) {
+                break;
+            }
+            List<UUID> voucherIds = expiries.stream().map(VoucherExpiry::getVoucherId).collect(Collectors.toList());
+            archived += voucherService.archiveVouchers(voucherIds, checkpoint.expiredBefore());
+            checkpoint = new Checkpoint(checkpoint.expiredBefore(), expiries.get(expiries.size() - 1));
+            saveCheckpoint(checkpoint);
+            if (expiries.size() < chunkSize) {
+                break;
+            }
+            if (!throttle(System.nanoTime() - startedAt)) {
+                return archived;
+            }
+        }
+        deleteCheckpoint();
+        return archived;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void tick() {
+        try {
+            int archived = run();
+            if (archived > 0) {
+                logger.info("만료된 바우처 {}개를 보관했습니다.", archived);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("바우처 보관 중 문제가 발생했습니다.", e);
+        }
+    }
+
+    private boolean throttle(long elapsedNanos) {
+        long sleepMillis = Math.max(pauseMillis, (long) (TimeUnit.NANOSECONDS.toMillis(elapsedNanos) * throttleRatio));
+        try {
+            Thread.sleep(sleepMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Optional<Checkpoint> loadCheckpoint() {
+        if (!Files.exists(checkpointPath)) {
+            return Optional.empty();
+        }
+        try {
+            String[] fields = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim().split(CHECKPOINT_DELIMITER, -1);
+            VoucherExpiry after = (fields.length < 3 || fields[2].isEmpty()) ? null
+                    : new VoucherExpiry(UUID.fromString(fields[2]), LocalDateTime.parse(fields[1]));
+            return Optional.of(new Checkpoint(LocalDateTime.parse(fields[0]), after));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void saveCheckpoint(Checkpoint checkpoint) {
+        VoucherExpiry after = checkpoint.after();
+        String content = checkpoint.expiredBefore() + CHECKPOINT_DELIMITER
+                + ((after == null) ? CHECKPOINT_DELIMITER : after.getExpiredAt() + CHECKPOINT_DELIMITER + after.getVoucherId());
+        try {
+            Files.createDirectories(checkpointPath.toAbsolutePath().getParent());
+            Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void deleteCheckpoint() {
+        try {
+            Files.deleteIfExists(checkpointPath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private record Checkpoint(LocalDateTime expiredBefore, VoucherExpiry after) {
+    }
+}
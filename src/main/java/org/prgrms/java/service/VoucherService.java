@@ -1,6 +1,10 @@
 package org.prgrms.java.service;
 
+import org.prgrms.java.common.UuidGenerator;
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
 import org.prgrms.java.domain.voucher.VoucherType;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
 import org.prgrms.java.exception.notfound.VoucherNotFoundException;
@@ -11,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -25,7 +31,7 @@ public class VoucherService {
     public Voucher saveVoucher(String ownerId, String type, long amount, LocalDateTime expiredAt) {
         Voucher voucher = VoucherMapper.mapToVoucher(
                 VoucherType.of(type),
-                UUID.randomUUID(),
+                UuidGenerator.generate(),
                 (ownerId == null) ? null : UUID.fromString(ownerId),
                 amount,
                 LocalDateTime.now(),
@@ -35,6 +41,7 @@ public class VoucherService {
         return voucherRepository.insert(voucher);
     }
 
+    @Transactional(readOnly = true)
     public Voucher getVoucherById(String voucherId) {
         try {
             return voucherRepository.findById(UUID.fromString(voucherId))
@@ -44,6 +51,26 @@ public class VoucherService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Voucher getVoucherById(String voucherId, boolean includeArchived) {
+        UUID id = toVoucherId(voucherId);
+        return voucherRepository.findById(id)
+                .or(() -> includeArchived ? voucherRepository.findArchivedById(id) : Optional.empty())
+                .orElseThrow(VoucherNotFoundException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public VoucherStatus getVoucherStatus(String voucherId) {
+        return voucherRepository.findStatusById(toVoucherId(voucherId))
+                .orElseThrow(VoucherNotFoundException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<VoucherSummary> getAllVoucherSummaries() {
+        return voucherRepository.findSummaries();
+    }
+
+    @Transactional(readOnly = true)
     public List<Voucher> getVoucherByOwnerId(String customerId) {
         try {
             return voucherRepository.findByCustomer(UUID.fromString(customerId));
@@ -52,14 +79,44 @@ public class VoucherService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Voucher> getAllExpiredVouchers() {
         return voucherRepository.findExpiredVouchers();
     }
 
+    @Transactional(readOnly = true)
     public List<Voucher> getAllVouchers() {
         return voucherRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<Voucher> getVoucherPage(UUID afterId, int limit) {
+        return voucherRepository.findPage(afterId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Voucher> getVoucherPageByOwnerId(String customerId, UUID afterId, int limit) {
+        try {
+            return voucherRepository.findPageByCustomer(UUID.fromString(customerId), afterId, limit);
+        } catch (IllegalArgumentException e) {
+            throw new VoucherBadRequestException();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Voucher> getExpiredVoucherPage(VoucherExpiry after, int limit) {
+        return voucherRepository.findExpiredPage(LocalDateTime.now(), after, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<VoucherExpiry> getExpiryPage(LocalDateTime expiredBefore, VoucherExpiry after, int limit) {
+        return voucherRepository.findExpiryPage(expiredBefore, after, limit);
+    }
+
+    public int archiveVouchers(List<UUID> voucherIds, LocalDateTime expiredBefore) {
+        return voucherRepository.archiveAll(voucherIds, expiredBefore);
+    }
+
     public Voucher updateVoucher(String voucherId, String ownerId, LocalDateTime expiredAt, boolean used) {
         Voucher voucher = getVoucherById(voucherId);
         try {
@@ -74,27 +131,23 @@ public class VoucherService {
     }
 
     public Voucher useVoucher(String voucherId) {
-        Voucher voucher = getVoucherById(voucherId);
-        if (voucher.isUsed()) {
+        if (!voucherRepository.markUsedIfUnused(toVoucherId(voucherId))) {
             throw new VoucherBadRequestException("이미 사용된 바우처입니다.");
         }
-
-        voucher.setUsed(true);
-        return voucherRepository.update(voucher);
+        return getVoucherById(voucherId);
     }
 
     public Voucher allocateVoucher(String voucherId, String ownerId) {
-        Voucher voucher = getVoucherById(voucherId);
-        if (voucher.getOwnerId() != null) {
-            throw new VoucherBadRequestException("다른 사용자가 보유 중인 바우처입니다.");
-        }
-
+        UUID owner;
         try {
-            voucher.setOwnerId(UUID.fromString(ownerId));
+            owner = UUID.fromString(ownerId);
         } catch (IllegalArgumentException e) {
             throw new VoucherBadRequestException();
         }
-        return voucherRepository.update(voucher);
+        if (!voucherRepository.assignOwnerIfUnowned(toVoucherId(voucherId), owner)) {
+            throw new VoucherBadRequestException("다른 사용자가 보유 중인 바우처입니다.");
+        }
+        return getVoucherById(voucherId);
     }
 
     public Voucher detachOwnerFromVoucher(String voucherId) {
@@ -103,6 +156,28 @@ public class VoucherService {
         return voucherRepository.update(voucher);
     }
 
+    public int useVouchers(List<String> voucherIds) {
+        return voucherRepository.markUsedIfUnused(toVoucherIds(voucherIds));
+    }
+
+    public int allocateVouchers(List<String> voucherIds, String ownerId) {
+        UUID owner;
+        try {
+            owner = UUID.fromString(ownerId);
+        } catch (IllegalArgumentException e) {
+            throw new VoucherBadRequestException();
+        }
+        return voucherRepository.assignOwnerIfUnowned(toVoucherIds(voucherIds), owner);
+    }
+
+    public int detachOwnerFromAllVouchers(String ownerId) {
+        try {
+            return voucherRepository.detachAllFromOwner(UUID.fromString(ownerId));
+        } catch (IllegalArgumentException e) {
+            throw new VoucherBadRequestException();
+        }
+    }
+
     public void deleteVoucher(String voucherId) {
         try {
             voucherRepository.delete(UUID.fromString(voucherId));
@@ -114,4 +189,18 @@ public class VoucherService {
     public void deleteAllVouchers() {
         voucherRepository.deleteAll();
     }
+
+    private static List<UUID> toVoucherIds(List<String> voucherIds) {
+        return voucherIds.stream()
+                .map(VoucherService::toVoucherId)
+                .collect(Collectors.toList());
+    }
+
+    private static UUID toVoucherId(String voucherId) {
+        try {
+            return UUID.fromString(voucherId);
+        } catch (IllegalArgumentException e) {
+            throw new VoucherBadRequestException();
+        }
+    }
 }
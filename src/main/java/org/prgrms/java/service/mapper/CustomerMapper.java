@@ -3,6 +3,7 @@ package org.prgrms.java.service.mapper;
 import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -10,18 +11,24 @@ public class CustomerMapper {
     private CustomerMapper() {
     }
 
-    public static Customer mapToCustomer(String line) {
-        String[] fields = line.split(",");
-        if (fields.length != 5) {
+    public static Customer mapToCustomer(CharSequence line) {
+        UUID customerId;
+        String name;
+        String email;
+        LocalDateTime createdAt;
+        boolean isBlocked;
+        try {
+            RecordParser parser = new RecordParser(line);
+            customerId = parser.nextUuid();
+            name = parser.nextString();
+            email = parser.nextString();
+            createdAt = parser.nextDateTime();
+            isBlocked = parser.nextBoolean();
+            parser.finish();
+        } catch (IllegalArgumentException | DateTimeException e) {
             throw new CustomerBadRequestException("손상된 사용자 데이터입니다.");
         }
 
-        UUID customerId = UUID.fromString(fields[0].trim());
-        String name = fields[1].trim();
-        String email = fields[2].trim();
-        LocalDateTime createdAt = LocalDateTime.parse(fields[3].trim());
-        boolean isBlocked = Boolean.parseBoolean(fields[4].trim());
-
         return Customer.builder()
                 .customerId(customerId)
                 .name(name)
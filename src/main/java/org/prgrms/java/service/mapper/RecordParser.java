@@ -0,0 +1,196 @@
+package org.prgrms.java.service.mapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class RecordParser {
+    private static final char DELIMITER = ',';
+    private static final int UUID_LENGTH = 36;
+
+    private final CharSequence record;
+    private int position;
+    private int start;
+    private int end;
+
+    public RecordParser(CharSequence record) {
+        this.record = record;
+    }
+
+    public UUID nextUuid() {
+        next();
+        if (end - start != UUID_LENGTH) {
+            return UUID.fromString(record.subSequence(start, end).toString());
+        }
+        long mostSignificantBits = hex(start, 8) << 32 | hex(start + 9, 4) << 16 | hex(start + 14, 4);
+        long leastSignificantBits = hex(start + 19, 4) << 48 | hex(start + 24, 12);
+        if (record.charAt(start + 8) != '-' || record.charAt(start + 13) != '-' || record.charAt(start + 18) != '-' || record.charAt(start + 23) != '-') {
+            throw corrupted();
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public UUID nextNullableUuid() {
+        int mark = position;
+        next();
+        if (fieldEquals("null")) {
+            return null;
+        }
+        position = mark;
+        return nextUuid();
+    }
+
+    public long nextLong() {
+        next();
+        return number(start, end);
+    }
+
+    public boolean nextBoolean() {
+        next();
+        if (fieldEqualsIgnoreCase("true")) {
+            return true;
+        }
+        if (fieldEqualsIgnoreCase("false")) {
+            return false;
+        }
+        throw corrupted();
+    }
+
+    public String nextString() {
+        next();
+        return record.subSequence(start, end).toString();
+    }
+
+    public int nextIndexOf(String[] candidates) {
+        next();
+        for (int i = 0; i < candidates.length; i++) {
+            if (fieldEquals(candidates[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public LocalDateTime nextDateTime() {
+        next();
+        int length = end - start;
+        if (length < 16 || record.charAt(start + 4) != '-' || record.charAt(start + 7) != '-' || record.charAt(start + 10) != 'T' || record.charAt(start + 13) != ':') {
+            return LocalDateTime.parse(record.subSequence(start, end));
+        }
+
+        int year = (int) number(start, start + 4);
+        int month = (int) number(start + 5, start + 7);
+        int day = (int) number(start + 8, start + 10);
+        int hour = (int) number(start + 11, start + 13);
+        int minute = (int) number(start + 14, start + 16);
+        int second = 0;
+        int nano = 0;
+        if (length > 16) {
+            if (length < 19 || record.charAt(start + 16) != ':') {
+                throw corrupted();
+            }
+            second = (int) number(start + 17, start + 19);
+        }
+        if (length > 19) {
+            int digits = length - 20;
+            if (record.charAt(start + 19) != '.' || digits < 1 || digits > 9) {
+                throw corrupted();
+            }
+            nano = (int) number(start + 20, end);
+            for (int i = digits; i < 9; i++) {
+                nano *= 10;
+            }
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    public void skip(int fields) {
+        for (int i = 0; i < fields; i++) {
+            next();
+        }
+    }
+
+    public void finish() {
+        if (position <= record.length()) {
+            throw corrupted();
+        }
+    }
+
+    private void next() {
+        int length = record.length();
+        if (position > length) {
+            throw corrupted();
+        }
+        int delimiter = position;
+        while (delimiter < length && record.charAt(delimiter) != DELIMITER) {
+            delimiter++;
+        }
+
+        start = position;
+        end = delimiter;
+        while (start < end && Character.isWhitespace(record.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(record.charAt(end - 1))) {
+            end--;
+        }
+        position = delimiter + 1;
+    }
+
+    private boolean fieldEquals(String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (record.charAt(start + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fieldEqualsIgnoreCase(String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.toLowerCase(record.charAt(start + i)) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long number(int from, int to) {
+        boolean negative = from < to && record.charAt(from) == '-';
+        int index = negative ? from + 1 : from;
+        if (index == to || to - index > 18) {
+            return Long.parseLong(record.subSequence(from, to).toString());
+        }
+
+        long value = 0;
+        for (; index < to; index++) {
+            int digit = record.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                throw corrupted();
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private long hex(int from, int length) {
+        long value = 0;
+        for (int i = from; i < from + length; i++) {
+            int digit = Character.digit(record.charAt(i), 16);
+            if (digit < 0) {
+                throw corrupted();
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private IllegalArgumentException corrupted() {
+        return new IllegalArgumentException("Malformed record: " + record);
+    }
+}
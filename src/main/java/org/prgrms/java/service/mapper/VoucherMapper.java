@@ -6,28 +6,37 @@ import org.prgrms.java.domain.voucher.Voucher;
 import org.prgrms.java.domain.voucher.VoucherType;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.UUID;
 
 public class VoucherMapper {
+    private static final VoucherType[] TYPES = VoucherType.values();
+    private static final String[] TYPE_NAMES = Arrays.stream(TYPES).map(VoucherType::toString).toArray(String[]::new);
+
     private VoucherMapper() {
     }
 
-    public static Voucher mapToVoucher(String line) {
-        String[] fields = line.split(",");
-        if (fields.length != 7) {
+    public static Voucher mapToVoucher(CharSequence line) {
+        try {
+            RecordParser parser = new RecordParser(line);
+            UUID voucherId = parser.nextUuid();
+            UUID ownerId = parser.nextNullableUuid();
+            long amount = parser.nextLong();
+            int typeIndex = parser.nextIndexOf(TYPE_NAMES);
+            LocalDateTime createdAt = parser.nextDateTime();
+            LocalDateTime expiredAt = parser.nextDateTime();
+            boolean used = parser.nextBoolean();
+            parser.finish();
+
+            if (typeIndex < 0) {
+                throw new VoucherBadRequestException("잘못된 바우처 타입입니다.");
+            }
+            return mapToVoucher(TYPES[typeIndex], voucherId, ownerId, amount, createdAt, expiredAt, used);
+        } catch (IllegalArgumentException | DateTimeException e) {
             throw new VoucherBadRequestException("손상된 바우처 데이터입니다.");
         }
-
-        UUID voucherId = UUID.fromString(fields[0].trim());
-        UUID ownerId = (fields[1].trim().equals("null"))? null: UUID.fromString(fields[1].trim());
-        String amount = fields[2].trim();
-        VoucherType type = VoucherType.of(fields[3].trim());
-        LocalDateTime createdAt = LocalDateTime.parse(fields[4].trim());
-        LocalDateTime expiredAt = LocalDateTime.parse(fields[5].trim());
-        boolean used = Boolean.parseBoolean(fields[6].trim());
-
-        return mapToVoucher(type, voucherId, ownerId, Long.parseLong(amount), createdAt, expiredAt, used);
     }
 
     public static Voucher mapToVoucher(VoucherType type, UUID voucherId, UUID ownerId, long amount, LocalDateTime createdAt, LocalDateTime expiredAt, boolean used) {
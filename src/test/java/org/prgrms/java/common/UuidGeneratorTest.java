@@ -0,0 +1,49 @@
+package org.prgrms.java.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.prgrms.java.repository.support.KeysetIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class UuidGeneratorTest {
+
+    @Test
+    @DisplayName("버전 7 형식의 UUID를 만든다.")
+    void testVersion() {
+        UUID uuid = UuidGenerator.generate();
+
+        assertThat(uuid.version(), is(7));
+        assertThat(uuid.variant(), is(2));
+        assertThat(UUID.fromString(uuid.toString()), is(uuid));
+    }
+
+    @Test
+    @DisplayName("나중에 만든 UUID가 DB 정렬 순서에서 항상 더 크다.")
+    void testMonotonic() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidGenerator.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(KeysetIndex.ORDER.compare(uuids.get(i - 1), uuids.get(i)), lessThan(0));
+        }
+    }
+
+    @Test
+    @DisplayName("UUID를 16바이트로 바꿨다가 되돌려도 같은 값이다.")
+    void testBytesRoundTrip() {
+        UUID uuid = UuidGenerator.generate();
+
+        byte[] bytes = TypeConversionUtils.toBytes(uuid);
+
+        assertThat(bytes.length, is(16));
+        assertThat(TypeConversionUtils.toUUID(bytes), is(uuid));
+    }
+}
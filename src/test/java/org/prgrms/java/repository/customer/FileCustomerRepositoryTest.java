@@ -4,8 +4,15 @@ import org.junit.jupiter.api.*;
 import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -48,6 +55,58 @@ class FileCustomerRepositoryTest {
         });
     }
 
+    @Test
+    @DisplayName("동일한 이메일의 유저는 파일에 등록할 수 없다.")
+    void testInsertSameEmailCustomer() {
+        customerRepository.save(createCustomer(UUID.randomUUID()));
+
+        assertThrows(CustomerBadRequestException.class, () -> customerRepository.save(createCustomer(UUID.randomUUID())));
+        assertThat(customerRepository.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("여러 유저를 파일에 한 번에 등록하고 수정할 수 있다.")
+    void testSaveAllAndUpdateAll() {
+        Customer customer = createCustomer(UUID.randomUUID());
+        Customer otherCustomer = createOtherCustomer(UUID.randomUUID());
+        customerRepository.saveAll(List.of(customer, otherCustomer));
+
+        customer.setBlocked(true);
+        otherCustomer.setBlocked(true);
+        customerRepository.updateAll(List.of(customer, otherCustomer));
+
+        CustomerRepository reopened = new FileCustomerRepository("data", "customer_test.csv", "customer_blacklist_test.csv");
+        assertThat(reopened.findAll(), hasSize(2));
+        assertThat(reopened.findById(customer.getCustomerId()).orElseThrow().isBlocked(), is(true));
+        assertThat(reopened.findById(otherCustomer.getCustomerId()).orElseThrow().isBlocked(), is(true));
+    }
+
+    @Test
+    @DisplayName("이메일이 겹치는 유저가 섞여 있으면 아무것도 파일에 등록하지 않는다.")
+    void testSaveAllWithSameEmailCustomer() {
+        assertThrows(CustomerBadRequestException.class, () -> customerRepository.saveAll(List.of(createCustomer(UUID.randomUUID()), createCustomer(UUID.randomUUID()))));
+        assertThat(customerRepository.findAll(), empty());
+    }
+
+    @Test
+    @DisplayName("다른 유저의 이메일로는 수정할 수 없다.")
+    void testUpdateWithSameEmailCustomer() {
+        Customer customer = customerRepository.save(createCustomer(UUID.randomUUID()));
+        Customer otherCustomer = customerRepository.save(createOtherCustomer(UUID.randomUUID()));
+        Customer blockedCustomer = customerRepository.save(createBlockedCustomer(UUID.randomUUID()));
+
+        otherCustomer.setEmail(customer.getEmail());
+        assertThrows(CustomerBadRequestException.class, () -> customerRepository.update(otherCustomer));
+        otherCustomer.setEmail("renamed-test@gmail.com");
+        blockedCustomer.setEmail("renamed-test@gmail.com");
+        assertThrows(CustomerBadRequestException.class, () -> customerRepository.updateAll(List.of(otherCustomer, blockedCustomer)));
+
+        customer.setBlocked(true);
+        customerRepository.update(customer);
+        assertThat(customerRepository.findByEmail("other-test@gmail.com").orElseThrow().getCustomerId(), is(otherCustomer.getCustomerId()));
+        assertThat(customerRepository.findByEmail(customer.getEmail()).orElseThrow().isBlocked(), is(true));
+    }
+
     @Test
     @DisplayName("등록한 유저가 정상적으로 반환돼야 한다.")
     void testFindById() {
@@ -75,6 +134,113 @@ class FileCustomerRepositoryTest {
         assertThat(customerRepository.findAll(), hasSize(2));
     }
 
+    @Test
+    @DisplayName("이름과 이메일로 유저를 찾을 수 있다.")
+    void testFindByNameAndEmail() {
+        Customer customer = createCustomer(UUID.randomUUID());
+        Customer blockedCustomer = createBlockedCustomer(UUID.randomUUID());
+
+        customerRepository.save(customer);
+        customerRepository.save(blockedCustomer);
+
+        assertThat(customerRepository.findByName(customer.getName()).orElseThrow(), samePropertyValuesAs(customer));
+        assertThat(customerRepository.findByEmail(blockedCustomer.getEmail()).orElseThrow(), samePropertyValuesAs(blockedCustomer));
+        assertThat(customerRepository.findByName("unknown").isEmpty(), is(true));
+    }
+
+    @Test
+    @DisplayName("유저를 차단하거나 이름을 바꾸면 다시 열어도 바뀐 값으로 조회된다.")
+    void testUpdate() {
+        Customer customer = createCustomer(UUID.randomUUID());
+        customerRepository.save(customer);
+
+        customer.setName("renamed-test");
+        customer.setBlocked(true);
+        customerRepository.update(customer);
+
+        CustomerRepository reopened = new FileCustomerRepository("data", "customer_test.csv", "customer_blacklist_test.csv");
+        assertThat(customerRepository.findByName("test").isEmpty(), is(true));
+        assertThat(customerRepository.findByName("renamed-test").orElseThrow(), samePropertyValuesAs(customer));
+        assertThat(reopened.findById(customer.getCustomerId()).orElseThrow(), samePropertyValuesAs(customer));
+        assertThat(reopened.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("삭제한 유저는 다시 열어도 조회되지 않는다.")
+    void testDelete() {
+        Customer customer = createCustomer(UUID.randomUUID());
+        Customer otherCustomer = createOtherCustomer(UUID.randomUUID());
+        customerRepository.save(customer);
+        customerRepository.save(otherCustomer);
+
+        customerRepository.delete(customer.getCustomerId());
+
+        CustomerRepository reopened = new FileCustomerRepository("data", "customer_test.csv", "customer_blacklist_test.csv");
+        assertThat(customerRepository.findByEmail(customer.getEmail()).isEmpty(), is(true));
+        assertThat(reopened.findById(customer.getCustomerId()).isEmpty(), is(true));
+        assertThat(reopened.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("예전 블랙리스트 파일에 있던 유저는 차단된 상태로 옮겨진다.")
+    void testImportBlacklist() throws IOException {
+        Customer blockedCustomer = createBlockedCustomer(UUID.randomUUID());
+        Path blacklist = Path.of("data", "customer_blacklist_import_test.csv");
+        Files.write(blacklist, List.of(blockedCustomer.toString()));
+
+        FileCustomerRepository importedRepository = new FileCustomerRepository("data", "customer_import_test.csv", "customer_blacklist_import_test.csv");
+
+        assertThat(Files.exists(blacklist), is(false));
+        assertThat(importedRepository.findById(blockedCustomer.getCustomerId()).orElseThrow(), samePropertyValuesAs(blockedCustomer));
+        assertThat(importedRepository.findById(blockedCustomer.getCustomerId()).orElseThrow().isBlocked(), is(true));
+
+        importedRepository.deleteAll();
+        importedRepository.close();
+    }
+
+    @Test
+    @DisplayName("등록한 유저를 스트림으로 하나씩 읽을 수 있고, 읽는 동안에도 쓸 수 있다.")
+    void testStream() {
+        customerRepository.save(createCustomer(UUID.randomUUID()));
+        customerRepository.save(createBlockedCustomer(UUID.randomUUID()));
+
+        try (Stream<Customer> customers = customerRepository.streamAll()) {
+            Iterator<Customer> iterator = customers.iterator();
+            Customer first = iterator.next();
+            customerRepository.save(createOtherCustomer(UUID.randomUUID()));
+            first.setName("renamed-test");
+            customerRepository.update(first);
+
+            assertThat(iterator.hasNext(), is(true));
+            assertThat(iterator.next().isBlocked(), is(true));
+            assertThat(iterator.hasNext(), is(false));
+        }
+        assertThat(customerRepository.findAll(), hasSize(3));
+    }
+
+    @Test
+    @DisplayName("유저를 아이디 순서로 나눠 이어서 조회할 수 있다.")
+    void testFindPage() {
+        List<UUID> customerIds = List.of(new UUID(1, 0), new UUID(2, 0), new UUID(Long.MIN_VALUE, 0), new UUID(-1, 0));
+        for (int i = customerIds.size() - 1; i >= 0; i--) {
+            customerRepository.save(Customer.builder()
+                    .customerId(customerIds.get(i))
+                    .name("test" + i)
+                    .email("test" + i + "@gmail.com")
+                    .createdAt(LocalDateTime.now())
+                    .isBlocked(i % 2 == 1)
+                    .build());
+        }
+
+        List<Customer> firstPage = customerRepository.findPage(null, 3);
+        List<Customer> lastPage = customerRepository.findPage(firstPage.get(2).getCustomerId(), 3);
+
+        assertThat(toCustomerIds(firstPage), contains(customerIds.get(0), customerIds.get(1), customerIds.get(2)));
+        assertThat(toCustomerIds(lastPage), contains(customerIds.get(3)));
+        assertThat(toCustomerIds(customerRepository.findPageByBlocked(true, null, 10)), contains(customerIds.get(1), customerIds.get(3)));
+        assertThat(toCustomerIds(customerRepository.findPageByBlocked(false, customerIds.get(0), 10)), contains(customerIds.get(2)));
+    }
+
     @Test
     @DisplayName("전체 유저를 삭제할 수 있다.")
     void testDeleteAll() {
@@ -90,6 +256,10 @@ class FileCustomerRepositoryTest {
         assertThat(customerRepository.findAll().isEmpty(), is(true));
     }
 
+    private List<UUID> toCustomerIds(List<Customer> customers) {
+        return customers.stream().map(Customer::getCustomerId).collect(Collectors.toList());
+    }
+
     private Customer createCustomer(UUID customerId) {
         return Customer.builder()
                 .customerId((customerId != null) ? customerId : UUID.randomUUID())
@@ -12,7 +12,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import javax.sql.DataSource;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -24,7 +26,8 @@ class JdbcCustomerRepositoryTest {
     private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>("mysql:8.0.24")
             .withInitScript("schema.sql")
             .withUsername("test")
-            .withPassword("test1234!");
+            .withPassword("test1234!")
+            .withUrlParam("rewriteBatchedStatements", "true");
 
     public DataSource dataSource = DataSourceBuilder.create()
             .driverClassName(MY_SQL_CONTAINER.getDriverClassName())
@@ -109,6 +112,29 @@ class JdbcCustomerRepositoryTest {
         assertThat(customer, not(samePropertyValuesAs(update)));
     }
 
+    @Test
+    @DisplayName("유저를 아이디 순서로 나눠 이어서 조회할 수 있다.")
+    void testFindPage() {
+        List<UUID> customerIds = List.of(new UUID(1, 0), new UUID(2, 0), new UUID(Long.MIN_VALUE, 0), new UUID(-1, 0));
+        for (int i = customerIds.size() - 1; i >= 0; i--) {
+            customerRepository.save(Customer.builder()
+                    .customerId(customerIds.get(i))
+                    .name("test" + i)
+                    .email("test" + i + "@gmail.com")
+                    .createdAt(LocalDateTime.now())
+                    .isBlocked(i % 2 == 1)
+                    .build());
+        }
+
+        List<Customer> firstPage = customerRepository.findPage(null, 3);
+        List<Customer> lastPage = customerRepository.findPage(firstPage.get(2).getCustomerId(), 3);
+
+        assertThat(toCustomerIds(firstPage), contains(customerIds.get(0), customerIds.get(1), customerIds.get(2)));
+        assertThat(toCustomerIds(lastPage), contains(customerIds.get(3)));
+        assertThat(toCustomerIds(customerRepository.findPageByBlocked(true, null, 10)), contains(customerIds.get(1), customerIds.get(3)));
+        assertThat(toCustomerIds(customerRepository.findPageByBlocked(false, customerIds.get(0), 10)), contains(customerIds.get(2)));
+    }
+
     @Test
     @DisplayName("전체 유저를 삭제할 수 있다.")
     void testDeleteAll() {
@@ -124,6 +150,10 @@ class JdbcCustomerRepositoryTest {
         assertThat(customerRepository.findAll().isEmpty(), is(true));
     }
 
+    private List<UUID> toCustomerIds(List<Customer> customers) {
+        return customers.stream().map(Customer::getCustomerId).collect(Collectors.toList());
+    }
+
     private Customer createCustomer(UUID customerId) {
         return Customer.builder()
                 .customerId((customerId != null) ? customerId : UUID.randomUUID())
@@ -8,7 +8,9 @@ import org.prgrms.java.domain.customer.Customer;
 import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -92,6 +94,90 @@ class MemoryCustomerRepositoryTest {
         assertThat(customer, not(samePropertyValuesAs(update)));
     }
 
+    @Test
+    @DisplayName("이름이나 이메일을 바꾸면 이름, 이메일로 찾는 결과도 바뀐다.")
+    void testNameAndEmailIndex() {
+        Customer customer = createCustomer(UUID.randomUUID());
+        customerRepository.save(customer);
+        customerRepository.save(createBlockedCustomer(UUID.randomUUID()));
+
+        customer.setName("renamed-test");
+        customer.setEmail("renamed-test@gmail.com");
+        customerRepository.update(customer);
+        assertThat(customerRepository.findByName("test").isEmpty(), is(true));
+        assertThat(customerRepository.findByEmail("test@gmail.com").isEmpty(), is(true));
+        assertThat(customerRepository.findByName("renamed-test").orElseThrow(), samePropertyValuesAs(customer));
+        assertThat(customerRepository.findByEmail("renamed-test@gmail.com").orElseThrow(), samePropertyValuesAs(customer));
+
+        customerRepository.delete(customer.getCustomerId());
+        assertThat(customerRepository.findByEmail("renamed-test@gmail.com").isEmpty(), is(true));
+        assertThat(customerRepository.findByName("another-test").isPresent(), is(true));
+    }
+
+    @Test
+    @DisplayName("영속화를 켜면 다시 열어도 스냅숏과 저널로 유저가 복구된다.")
+    void testPersistence() {
+        MemoryCustomerRepository persistentRepository = new MemoryCustomerRepository("data", "customer_memory_test", 2);
+        persistentRepository.deleteAll();
+        Customer customer = persistentRepository.save(createCustomer(UUID.randomUUID()));
+        Customer otherCustomer = persistentRepository.save(createOtherCustomer(UUID.randomUUID()));
+        persistentRepository.save(createBlockedCustomer(UUID.randomUUID()));
+        customer.setEmail("renamed-test@gmail.com");
+        persistentRepository.update(customer);
+        persistentRepository.delete(otherCustomer.getCustomerId());
+        persistentRepository.close();
+
+        MemoryCustomerRepository reopened = new MemoryCustomerRepository("data", "customer_memory_test", 2);
+        assertThat(reopened.findAll(), hasSize(2));
+        assertThat(reopened.findByEmail("renamed-test@gmail.com").orElseThrow(), samePropertyValuesAs(customer));
+        assertThat(reopened.findById(otherCustomer.getCustomerId()).isEmpty(), is(true));
+        assertThat(reopened.findByName("another-test").orElseThrow().isBlocked(), is(true));
+
+        reopened.deleteAll();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("이름이나 이메일에 쉼표가 있어도 저널에서 복구된다.")
+    void testPersistenceWithDelimiterInFields() {
+        MemoryCustomerRepository persistentRepository = new MemoryCustomerRepository("data", "customer_memory_test", 100);
+        persistentRepository.deleteAll();
+        Customer customer = createCustomer(UUID.randomUUID());
+        customer.setName("test, jr.");
+        customer.setEmail("test,1@gmail.com");
+        persistentRepository.save(customer);
+        persistentRepository.close();
+
+        MemoryCustomerRepository reopened = new MemoryCustomerRepository("data", "customer_memory_test", 100);
+        assertThat(reopened.findById(customer.getCustomerId()).orElseThrow(), samePropertyValuesAs(customer));
+
+        reopened.deleteAll();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("유저를 아이디 순서로 나눠 이어서 조회할 수 있다.")
+    void testFindPage() {
+        List<UUID> customerIds = List.of(new UUID(1, 0), new UUID(2, 0), new UUID(Long.MIN_VALUE, 0), new UUID(-1, 0));
+        for (int i = customerIds.size() - 1; i >= 0; i--) {
+            customerRepository.save(Customer.builder()
+                    .customerId(customerIds.get(i))
+                    .name("test" + i)
+                    .email("test" + i + "@gmail.com")
+                    .createdAt(LocalDateTime.now())
+                    .isBlocked(i % 2 == 1)
+                    .build());
+        }
+
+        List<Customer> firstPage = customerRepository.findPage(null, 3);
+        List<Customer> lastPage = customerRepository.findPage(firstPage.get(2).getCustomerId(), 3);
+
+        assertThat(toCustomerIds(firstPage), contains(customerIds.get(0), customerIds.get(1), customerIds.get(2)));
+        assertThat(toCustomerIds(lastPage), contains(customerIds.get(3)));
+        assertThat(toCustomerIds(customerRepository.findPageByBlocked(true, null, 10)), contains(customerIds.get(1), customerIds.get(3)));
+        assertThat(toCustomerIds(customerRepository.findPageByBlocked(false, customerIds.get(0), 10)), contains(customerIds.get(2)));
+    }
+
     @Test
     @DisplayName("전체 유저를 삭제할 수 있다.")
     void testDeleteAll() {
@@ -107,6 +193,10 @@ class MemoryCustomerRepositoryTest {
         assertThat(customerRepository.findAll().isEmpty(), is(true));
     }
 
+    private List<UUID> toCustomerIds(List<Customer> customers) {
+        return customers.stream().map(Customer::getCustomerId).collect(Collectors.toList());
+    }
+
     private Customer createCustomer(UUID customerId) {
         return Customer.builder()
                 .customerId((customerId != null) ? customerId : UUID.randomUUID())
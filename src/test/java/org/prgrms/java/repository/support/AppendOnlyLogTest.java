@@ -0,0 +1,68 @@
+package org.prgrms.java.repository.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AppendOnlyLogTest {
+    private static final Path PATH = Path.of("data", "append_only_log_test");
+
+    @AfterEach
+    void clean() throws IOException {
+        Files.deleteIfExists(PATH);
+    }
+
+    @Test
+    @DisplayName("쓰지 않은 레코드도 파일에 쓰지 않고 읽을 수 있다.")
+    void testReadPendingRecords() throws IOException {
+        try (AppendOnlyLog log = new AppendOnlyLog(PATH)) {
+            log.truncate();
+            long first = log.append("first");
+            log.sync();
+            long second = log.append("second");
+            long third = log.append("third");
+
+            assertThat(log.read(first), is("first"));
+            assertThat(log.read(second), is("second"));
+            assertThat(log.read(third), is("third"));
+            assertThat(log.alignToRecord(second + 1), is(third));
+            List<String> records = new ArrayList<>();
+            log.scan((offset, record) -> records.add(record));
+            assertThat(records, contains("first", "second", "third"));
+            assertThat(Files.size(PATH), is(second));
+        }
+    }
+
+    @Test
+    @DisplayName("쓰지 않은 레코드를 버리면 파일에 남지 않는다.")
+    void testDiscardPendingAfterRead() throws IOException {
+        try (AppendOnlyLog log = new AppendOnlyLog(PATH)) {
+            log.truncate();
+            log.append("first");
+            log.sync();
+            long second = log.append("second");
+            log.read(second);
+            log.discardPending();
+
+            assertThat(log.size(), is(second));
+            assertThat(Files.size(PATH), is(second));
+            log.append("third");
+            log.sync();
+        }
+
+        try (AppendOnlyLog reopened = new AppendOnlyLog(PATH)) {
+            List<String> records = new ArrayList<>();
+            reopened.scan((offset, record) -> records.add(record));
+            assertThat(records, contains("first", "third"));
+        }
+    }
+}
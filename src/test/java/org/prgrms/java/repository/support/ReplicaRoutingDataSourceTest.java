@@ -0,0 +1,96 @@
+package org.prgrms.java.repository.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+// 컨테이너 하나를 주 DB 와 복제 DB 로 함께 쓰고, 어느 쪽으로 갔는지는 접속 계정으로 구분한다.
+@Testcontainers
+class ReplicaRoutingDataSourceTest {
+    private static final String CURRENT_USER_QUERY = "SELECT SUBSTRING_INDEX(CURRENT_USER(), '@', 1)";
+    private static final String REPLICA_USERNAME = "root";
+
+    @Container
+    private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>("mysql:8.0.24")
+            .withInitScript("schema.sql")
+            .withUsername("test")
+            .withPassword("test1234!");
+
+    public DataSource primaryDataSource = createDataSource(MY_SQL_CONTAINER.getUsername(), MY_SQL_CONTAINER.getPassword());
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB 로, 나머지는 주 DB 로 보낸다.")
+    void testRouteReadOnlyTransactionToReplica() {
+        DataSource replicaDataSource = createDataSource(REPLICA_USERNAME, MY_SQL_CONTAINER.getPassword());
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(1), Duration.ofMinutes(1)) {
+            @Override
+            public boolean isReplicaUsable() {
+                return true;
+            }
+        };
+        try {
+            assertThat(findCurrentUser(replicaDataSource, lagMonitor, true), is(REPLICA_USERNAME));
+            assertThat(findCurrentUser(replicaDataSource, lagMonitor, false), is(MY_SQL_CONTAINER.getUsername()));
+        } finally {
+            lagMonitor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("복제 상태가 조회되지 않는 DB 는 지연을 알 수 없으므로 쓰지 않는다.")
+    void testNoReplicaStatus() {
+        DataSource replicaDataSource = createDataSource(REPLICA_USERNAME, MY_SQL_CONTAINER.getPassword());
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        try {
+            assertThat(lagMonitor.isReplicaUsable(), is(false));
+            assertThat(lagMonitor.getStats().getLag(), is(nullValue()));
+            assertThat(findCurrentUser(replicaDataSource, lagMonitor, true), is(MY_SQL_CONTAINER.getUsername()));
+        } finally {
+            lagMonitor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("복제 DB 상태를 확인할 수 없으면 읽기 전용 트랜잭션도 주 DB 로 보낸다.")
+    void testFallbackToPrimary() {
+        DataSource replicaDataSource = createDataSource(REPLICA_USERNAME, "wrong-password");
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        try {
+            assertThat(lagMonitor.isReplicaUsable(), is(false));
+            assertThat(lagMonitor.getStats().getLag(), is(nullValue()));
+            assertThat(findCurrentUser(replicaDataSource, lagMonitor, true), is(MY_SQL_CONTAINER.getUsername()));
+        } finally {
+            lagMonitor.close();
+        }
+    }
+
+    private String findCurrentUser(DataSource replicaDataSource, ReplicaLagMonitor lagMonitor, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagMonitor));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(CURRENT_USER_QUERY, String.class));
+    }
+
+    private static DataSource createDataSource(String username, String password) {
+        return DataSourceBuilder.create()
+                .driverClassName(MY_SQL_CONTAINER.getDriverClassName())
+                .url(MY_SQL_CONTAINER.getJdbcUrl())
+                .username(username)
+                .password(password)
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package org.prgrms.java.repository.voucher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.repository.support.EntityCache;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class CachingVoucherRepositoryTest {
+    private final AtomicInteger loads = new AtomicInteger();
+    private MemoryVoucherRepository delegate;
+
+    @BeforeEach
+    void setUp() {
+        loads.set(0);
+        delegate = new MemoryVoucherRepository() {
+            @Override
+            public Optional<Voucher> findById(UUID voucherId) {
+                loads.incrementAndGet();
+                return super.findById(voucherId);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.close();
+    }
+
+    @Test
+    @DisplayName("같은 바우처를 다시 조회하면 저장소를 거치지 않는다.")
+    void testHit() {
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 100, 60_000);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+
+        voucherRepository.findById(voucher.getVoucherId());
+        voucherRepository.findById(voucher.getVoucherId());
+
+        EntityCache.Stats stats = voucherRepository.getCacheStats();
+        assertThat(loads.get(), is(1));
+        assertThat(stats.getHits(), is(1L));
+        assertThat(stats.getMisses(), is(1L));
+    }
+
+    @Test
+    @DisplayName("수정하거나 삭제하면 캐시에서 지워져 다음 조회는 저장소에서 읽는다.")
+    void testInvalidation() {
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 100, 60_000);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+        voucherRepository.findById(voucher.getVoucherId());
+
+        voucherRepository.update(voucher);
+        voucherRepository.findById(voucher.getVoucherId());
+        voucherRepository.delete(voucher.getVoucherId());
+
+        assertThat(voucherRepository.findById(voucher.getVoucherId()).isEmpty(), is(true));
+        assertThat(loads.get(), is(3));
+    }
+
+    @Test
+    @DisplayName("조회한 바우처를 고쳐도 캐시된 바우처는 바뀌지 않는다.")
+    void testCachedVoucherIsCopied() {
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 100, 60_000);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+
+        Voucher found = voucherRepository.findById(voucher.getVoucherId()).orElseThrow();
+        found.setUsed(true);
+        found.setOwnerId(UUID.randomUUID());
+
+        Voucher cached = voucherRepository.findById(voucher.getVoucherId()).orElseThrow();
+        assertThat(cached.isUsed(), is(false));
+        assertThat(cached.getOwnerId(), nullValue());
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("캐시를 채울 수 없을 때 읽은 바우처는 돌려주기만 하고 보관하지 않는다.")
+    void testSkipFill() {
+        AtomicBoolean fillable = new AtomicBoolean(false);
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 100, 60_000, fillable::get);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+
+        assertThat(voucherRepository.findById(voucher.getVoucherId()).isPresent(), is(true));
+        assertThat(voucherRepository.getCacheStats().getSize(), is(0L));
+
+        fillable.set(true);
+        voucherRepository.findById(voucher.getVoucherId());
+        voucherRepository.findById(voucher.getVoucherId());
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서 읽은 바우처는 캐시에 보관하지 않는다.")
+    void testSkipFillInWriteTransaction() {
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 100, 60_000);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            voucherRepository.findById(voucher.getVoucherId());
+            assertThat(voucherRepository.getCacheStats().getSize(), is(0L));
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            voucherRepository.findById(voucher.getVoucherId());
+            assertThat(voucherRepository.getCacheStats().getSize(), is(1L));
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("읽는 도중에 무효화된 바우처는 캐시에 보관하지 않는다.")
+    void testSkipStaleFill() {
+        CachingVoucherRepository[] holder = new CachingVoucherRepository[1];
+        MemoryVoucherRepository invalidating = new MemoryVoucherRepository() {
+            @Override
+            public Optional<Voucher> findById(UUID voucherId) {
+                Optional<Voucher> found = super.findById(voucherId);
+                holder[0].update(found.orElseThrow());
+                return found;
+            }
+        };
+        holder[0] = new CachingVoucherRepository(invalidating, 100, 60_000);
+        Voucher voucher = holder[0].insert(createVoucher());
+
+        assertThat(holder[0].findById(voucher.getVoucherId()).isPresent(), is(true));
+        assertThat(holder[0].getCacheStats().getSize(), is(0L));
+        invalidating.close();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래된 바우처부터 내보낸다.")
+    void testSizeEviction() {
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 10, 60_000);
+        for (int i = 0; i < 30; i++) {
+            voucherRepository.findById(voucherRepository.insert(createVoucher()).getVoucherId());
+        }
+
+        EntityCache.Stats stats = voucherRepository.getCacheStats();
+        assertThat(stats.getSize(), is(10L));
+        assertThat(stats.getEvictions(), is(20L));
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 바우처는 저장소에서 다시 읽는다.")
+    void testExpiry() throws InterruptedException {
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(delegate, 100, 20);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+
+        voucherRepository.findById(voucher.getVoucherId());
+        Thread.sleep(50);
+        voucherRepository.findById(voucher.getVoucherId());
+
+        assertThat(loads.get(), is(2));
+        assertThat(voucherRepository.getCacheStats().getEvictions(), is(1L));
+    }
+
+    @Test
+    @DisplayName("같은 바우처를 동시에 조회해도 저장소에서는 한 번만 읽는다.")
+    void testStampedeProtection() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        MemoryVoucherRepository slowDelegate = new MemoryVoucherRepository() {
+            @Override
+            public Optional<Voucher> findById(UUID voucherId) {
+                loads.incrementAndGet();
+                try {
+                    loading.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findById(voucherId);
+            }
+        };
+        CachingVoucherRepository voucherRepository = new CachingVoucherRepository(slowDelegate, 100, 60_000);
+        Voucher voucher = voucherRepository.insert(createVoucher());
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        AtomicInteger found = new AtomicInteger();
+
+        for (int i = 0; i < 16; i++) {
+            executorService.submit(() -> voucherRepository.findById(voucher.getVoucherId()).ifPresent(v -> found.incrementAndGet()));
+        }
+        Thread.sleep(100);
+        loading.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        slowDelegate.close();
+
+        assertThat(found.get(), is(16));
+        assertThat(loads.get(), is(1));
+    }
+
+    private Voucher createVoucher() {
+        return FixedAmountVoucher.builder()
+                .voucherId(UUID.randomUUID())
+                .amount(1000)
+                .isUsed(false)
+                .createdAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,243 @@
+package org.prgrms.java.repository.voucher;
+
+import org.junit.jupiter.api.*;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.PercentDiscountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarVoucherRepositoryTest {
+    private static final VoucherRepository voucherRepository = new ColumnarVoucherRepository();
+
+    @BeforeEach
+    @AfterEach
+    void clean() {
+        voucherRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("바우처를 열 단위 저장소에 등록할 수 있다.")
+    void testInsert() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+
+        Voucher insertedFixedAmountVoucher = voucherRepository.insert(fixedAmountVoucher);
+        Voucher insertedPercentDiscountVoucher = voucherRepository.insert(percentDiscountVoucher);
+
+        assertThat(fixedAmountVoucher, samePropertyValuesAs(insertedFixedAmountVoucher));
+        assertThat(percentDiscountVoucher, samePropertyValuesAs(insertedPercentDiscountVoucher));
+    }
+
+    @Test
+    @DisplayName("동일한 ID의 바우처는 열 단위 저장소에 등록할 수 없다.")
+    void testInsertSameIdVoucher() {
+        assertThrows(VoucherBadRequestException.class, () -> {
+            UUID voucherId = UUID.randomUUID();
+            Voucher fixedAmountVoucher = createFixedAmountVoucher(voucherId);
+            Voucher percentDiscountVoucher = createPercentDiscountVoucher(voucherId);
+
+            voucherRepository.insert(fixedAmountVoucher);
+            voucherRepository.insert(percentDiscountVoucher);
+        });
+    }
+
+    @Test
+    @DisplayName("등록한 바우처를 열 단위 저장소에서 찾을 수 있다.")
+    void testFindById() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        assertThat(voucherRepository.findById(fixedAmountVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(fixedAmountVoucher));
+        assertThat(voucherRepository.findById(percentDiscountVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(percentDiscountVoucher));
+        assertThat(voucherRepository.findById(UUID.randomUUID()).isEmpty(), is(true));
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소에서 소유자로 바우처를 찾을 수 있고, 소유자가 바뀌면 결과도 바뀐다.")
+    void testFindByCustomer() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        fixedAmountVoucher.setOwnerId(ownerId);
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(1));
+        assertThat(voucherRepository.findByCustomer(ownerId).get(0), samePropertyValuesAs(fixedAmountVoucher));
+
+        fixedAmountVoucher.setOwnerId(null);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소에 등록한 바우처를 수정할 수 있다.")
+    void testUpdate() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+
+        fixedAmountVoucher.setOwnerId(UUID.randomUUID());
+        fixedAmountVoucher.setUsed(true);
+        fixedAmountVoucher.setExpiredAt(LocalDateTime.now().plusDays(1));
+        voucherRepository.update(fixedAmountVoucher);
+
+        assertThat(voucherRepository.findById(fixedAmountVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(fixedAmountVoucher));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.update(createPercentDiscountVoucher(UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소에서 삭제한 바우처는 조회되지 않고, 빈 자리는 재사용된다.")
+    void testDelete() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        voucherRepository.delete(fixedAmountVoucher.getVoucherId());
+
+        assertThat(voucherRepository.findById(fixedAmountVoucher.getVoucherId()).isEmpty(), is(true));
+        assertThat(voucherRepository.findAll(), hasSize(1));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.delete(fixedAmountVoucher.getVoucherId()));
+
+        Voucher reinsertedVoucher = voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+        assertThat(voucherRepository.findAll(), hasSize(2));
+        assertThat(voucherRepository.findById(reinsertedVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(reinsertedVoucher));
+    }
+
+    @Test
+    @DisplayName("초기 용량보다 많은 바우처를 등록하고 일부를 지워도 남은 바우처는 모두 아이디로 찾을 수 있다.")
+    void testGrowAndRemove() {
+        List<Voucher> vouchers = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            vouchers.add(voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID())));
+        }
+        for (int i = 0; i < vouchers.size(); i += 2) {
+            voucherRepository.delete(vouchers.get(i).getVoucherId());
+        }
+
+        assertThat(voucherRepository.findAll(), hasSize(2500));
+        for (int i = 0; i < vouchers.size(); i++) {
+            assertThat(voucherRepository.findById(vouchers.get(i).getVoucherId()).isPresent(), is(i % 2 == 1));
+        }
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소에서 만료 시각을 기준으로 만료된 바우처를 찾을 수 있다.")
+    void testFindExpiredVouchers() {
+        LocalDateTime now = LocalDateTime.now();
+        Voucher expiredVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher validVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        expiredVoucher.setExpiredAt(now.minusNanos(1));
+        validVoucher.setExpiredAt(now);
+        voucherRepository.insert(expiredVoucher);
+        voucherRepository.insert(validVoucher);
+
+        assertThat(voucherRepository.findExpiredVouchers(now), contains(samePropertyValuesAs(expiredVoucher)));
+        assertThat(voucherRepository.findExpiredVouchers(now.plusNanos(1)), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소에 등록한 바우처를 스트림으로 하나씩 읽을 수 있다.")
+    void testStream() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        fixedAmountVoucher.setOwnerId(ownerId);
+
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        try (Stream<Voucher> vouchers = voucherRepository.streamAll()) {
+            assertThat(vouchers.count(), is(2L));
+        }
+        try (Stream<Voucher> vouchers = voucherRepository.streamByCustomer(ownerId)) {
+            assertThat(vouchers.toList().get(0), samePropertyValuesAs(fixedAmountVoucher));
+        }
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소에서 전체 바우처를 삭제할 수 있다.")
+    void testDeleteAll() {
+        voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+        voucherRepository.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+        voucherRepository.deleteAll();
+
+        assertThat(voucherRepository.findAll().isEmpty(), is(true));
+    }
+
+    @Test
+    @DisplayName("조건부 변경은 조건이 맞을 때만 반영되고, 소유자로 찾는 결과도 함께 바뀐다.")
+    void testConditionalUpdates() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher voucher = voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucher.getVoucherId(), ownerId), is(true));
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucher.getVoucherId(), UUID.randomUUID()), is(false));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucher.getVoucherId()), is(true));
+        assertThat(voucherRepository.markUsedIfUnused(voucher.getVoucherId()), is(false));
+        assertThat(voucherRepository.findById(voucher.getVoucherId()).orElseThrow().isUsed(), is(true));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.markUsedIfUnused(UUID.randomUUID()));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.assignOwnerIfUnowned(UUID.randomUUID(), ownerId));
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 한 번에 할당, 사용, 회수하면 조건에 맞는 바우처만 바뀌고 그 개수를 돌려준다.")
+    void testBulkWalletOperations() {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherOwnerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(otherOwnerId);
+        Voucher usedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        usedVoucher.setUsed(true);
+        Voucher freeVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insertAll(List.of(ownedVoucher, usedVoucher, freeVoucher));
+        List<UUID> voucherIds = List.of(ownedVoucher.getVoucherId(), usedVoucher.getVoucherId(), freeVoucher.getVoucherId(), UUID.randomUUID());
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucherIds, ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(otherOwnerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(2));
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(0));
+
+        assertThat(voucherRepository.detachAllFromOwner(ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+        assertThat(voucherRepository.findById(freeVoucher.getVoucherId()).orElseThrow().getOwnerId(), nullValue());
+        assertThat(voucherRepository.findById(ownedVoucher.getVoucherId()).orElseThrow().getOwnerId(), is(otherOwnerId));
+    }
+
+    private Voucher createFixedAmountVoucher(UUID voucherId) {
+        return FixedAmountVoucher.builder()
+                .voucherId((voucherId != null) ? voucherId : UUID.randomUUID())
+                .amount(1000)
+                .isUsed(false)
+                .createdAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Voucher createPercentDiscountVoucher(UUID voucherId) {
+        return PercentDiscountVoucher.builder()
+                .voucherId((voucherId != null) ? voucherId : UUID.randomUUID())
+                .amount(50)
+                .isUsed(false)
+                .createdAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -4,10 +4,26 @@ import org.junit.jupiter.api.*;
 import org.prgrms.java.domain.voucher.FixedAmountVoucher;
 import org.prgrms.java.domain.voucher.PercentDiscountVoucher;
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.repository.support.BatchWriter;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -77,6 +93,279 @@ class FileVoucherRepositoryTest {
         assertThat(voucherRepository.findAll(), hasSize(2));
     }
 
+    @Test
+    @DisplayName("파일에 등록한 바우처를 수정하면 다시 열어도 수정된 값이 조회된다.")
+    void testUpdate() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+
+        UUID ownerId = UUID.randomUUID();
+        fixedAmountVoucher.setOwnerId(ownerId);
+        fixedAmountVoucher.setUsed(true);
+        voucherRepository.update(fixedAmountVoucher);
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(voucherRepository.findById(fixedAmountVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(fixedAmountVoucher));
+        assertThat(reopened.findById(fixedAmountVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(fixedAmountVoucher));
+        assertThat(reopened.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("파일에서 삭제한 바우처는 다시 열어도 조회되지 않는다.")
+    void testDelete() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        voucherRepository.delete(fixedAmountVoucher.getVoucherId());
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(voucherRepository.findById(fixedAmountVoucher.getVoucherId()).isEmpty(), is(true));
+        assertThat(reopened.findById(fixedAmountVoucher.getVoucherId()).isEmpty(), is(true));
+        assertThat(reopened.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("여러 번 수정된 바우처 파일을 정리해도 마지막 상태가 유지된다.")
+    void testCompaction() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+
+        for (int i = 0; i < 3000; i++) {
+            fixedAmountVoucher.setUsed(i % 2 == 0);
+            voucherRepository.update(fixedAmountVoucher);
+        }
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findAll(), hasSize(1));
+        assertThat(reopened.findById(fixedAmountVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(fixedAmountVoucher));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 바우처 쓰기 요청은 한 번에 모아서 기록된다.")
+    void testConcurrentWritesAreCoalesced() throws InterruptedException {
+        FileVoucherRepository batchRepository = new FileVoucherRepository("data", "voucher_batch_test.csv", 20, 256);
+        batchRepository.deleteAll();
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        for (int i = 0; i < 64; i++) {
+            executorService.submit(() -> batchRepository.insert(createFixedAmountVoucher(UUID.randomUUID())));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        BatchWriter.Metrics metrics = batchRepository.getWriterMetrics();
+        assertThat(batchRepository.findAll(), hasSize(64));
+        assertThat(metrics.getMutations(), is(65L));
+        assertThat(metrics.getBatches(), lessThan(65L));
+
+        batchRepository.deleteAll();
+        batchRepository.close();
+    }
+
+    @Test
+    @DisplayName("큰 파일은 여러 구간으로 나눠 병렬로 읽어도 순차로 읽은 결과와 같다.")
+    void testParallelScan() {
+        FileVoucherRepository parallelRepository = new FileVoucherRepository("data", "voucher_parallel_test.csv", 0, 256, 1);
+        parallelRepository.deleteAll();
+        UUID ownerId = UUID.randomUUID();
+        for (int i = 0; i < 500; i++) {
+            Voucher voucher = (i % 2 == 0) ? createFixedAmountVoucher(UUID.randomUUID()) : createPercentDiscountVoucher(UUID.randomUUID());
+            if (i % 5 == 0) {
+                voucher.setOwnerId(ownerId);
+            }
+            parallelRepository.insert(voucher);
+        }
+        for (int i = 0; i < 50; i++) {
+            parallelRepository.delete(parallelRepository.findAll().get(i).getVoucherId());
+        }
+
+        FileVoucherRepository sequentialRepository = new FileVoucherRepository("data", "voucher_parallel_test.csv", 0, 256, Long.MAX_VALUE);
+        assertThat(parallelRepository.findAll(), hasSize(450));
+        assertThat(parallelRepository.findAll().stream().map(Voucher::getVoucherId).toList(), is(sequentialRepository.findAll().stream().map(Voucher::getVoucherId).toList()));
+        assertThat(parallelRepository.findByCustomer(ownerId), hasSize(sequentialRepository.findByCustomer(ownerId).size()));
+        assertThat(parallelRepository.findExpiredVouchers(), hasSize(450));
+
+        sequentialRepository.close();
+        parallelRepository.deleteAll();
+        parallelRepository.close();
+    }
+
+    @Test
+    @DisplayName("파일에 등록한 바우처를 스트림으로 하나씩 읽을 수 있다.")
+    void testStream() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        fixedAmountVoucher.setOwnerId(ownerId);
+
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        try (Stream<Voucher> vouchers = voucherRepository.streamAll()) {
+            assertThat(vouchers.count(), is(2L));
+        }
+        try (Stream<Voucher> vouchers = voucherRepository.streamByCustomer(ownerId)) {
+            assertThat(vouchers.toList().get(0), samePropertyValuesAs(fixedAmountVoucher));
+        }
+        try (Stream<Voucher> vouchers = voucherRepository.streamExpiredVouchers()) {
+            assertThat(vouchers.count(), is(2L));
+        }
+    }
+
+    @Test
+    @DisplayName("스트림을 읽는 동안 수정된 바우처는 최신 상태로 읽히고, 열린 스트림이 파일 정리를 막지 않는다.")
+    void testStreamDuringUpdateAndCompaction() throws IOException {
+        Voucher fixedAmountVoucher = voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+        Voucher percentDiscountVoucher = voucherRepository.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+
+        try (Stream<Voucher> vouchers = voucherRepository.streamAll()) {
+            Iterator<Voucher> iterator = vouchers.iterator();
+            assertThat(iterator.next().getVoucherId(), is(fixedAmountVoucher.getVoucherId()));
+
+            percentDiscountVoucher.setUsed(true);
+            voucherRepository.update(percentDiscountVoucher);
+            for (int i = 0; i < 3000; i++) {
+                fixedAmountVoucher.setUsed(i % 2 == 0);
+                voucherRepository.update(fixedAmountVoucher);
+            }
+
+            assertThat(iterator.next(), samePropertyValuesAs(percentDiscountVoucher));
+            assertThat(iterator.hasNext(), is(false));
+        }
+        try (Stream<String> lines = Files.lines(Path.of("data", "voucher_test.csv"))) {
+            assertThat(lines.count(), lessThan(3000L));
+        }
+    }
+
+    @Test
+    @DisplayName("스트림을 읽는 동안 전체 바우처가 삭제되면 예외가 발생한다.")
+    void testStreamCutOffByDeleteAll() {
+        voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+        voucherRepository.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+
+        try (Stream<Voucher> vouchers = voucherRepository.streamAll()) {
+            Iterator<Voucher> iterator = vouchers.iterator();
+            iterator.next();
+            voucherRepository.deleteAll();
+
+            assertThrows(ConcurrentModificationException.class, iterator::hasNext);
+        }
+    }
+
+    @Test
+    @DisplayName("파일 바우처의 소유자가 바뀌면 소유자로 찾는 결과도 바뀌고, 다시 열어도 유지된다.")
+    void testOwnerIndex() {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherOwnerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+
+        fixedAmountVoucher.setOwnerId(ownerId);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(new UUID(ownerId.getMostSignificantBits(), ownerId.getLeastSignificantBits())), hasSize(1));
+
+        fixedAmountVoucher.setOwnerId(otherOwnerId);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+        assertThat(voucherRepository.findByCustomer(otherOwnerId).get(0), samePropertyValuesAs(fixedAmountVoucher));
+
+        fixedAmountVoucher.setOwnerId(null);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(otherOwnerId), empty());
+
+        fixedAmountVoucher.setOwnerId(ownerId);
+        voucherRepository.update(fixedAmountVoucher);
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findByCustomer(ownerId).get(0), samePropertyValuesAs(fixedAmountVoucher));
+    }
+
+    @Test
+    @DisplayName("파일에서 만료 시각을 기준으로 만료된 바우처를 찾을 수 있고, 다시 열어도 유지된다.")
+    void testExpiryIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        Voucher earlyVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher lateVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        earlyVoucher.setExpiredAt(now.minusDays(2));
+        lateVoucher.setExpiredAt(now.minusDays(1));
+        voucherRepository.insert(lateVoucher);
+        voucherRepository.insert(earlyVoucher);
+        voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+
+        assertThat(voucherRepository.findExpiredVouchers(now.minusDays(3)), empty());
+        assertThat(voucherRepository.findExpiredVouchers(now.minusDays(1)), contains(samePropertyValuesAs(earlyVoucher)));
+        assertThat(voucherRepository.findExpiredVouchers(now).get(1), samePropertyValuesAs(lateVoucher));
+
+        lateVoucher.setExpiredAt(now.plusDays(1));
+        voucherRepository.update(lateVoucher);
+        voucherRepository.delete(voucherRepository.findExpiredVouchers(now).get(0).getVoucherId());
+        assertThat(voucherRepository.findExpiredVouchers(now), empty());
+        assertThat(voucherRepository.findExpiredVouchers(now.plusDays(2)), hasSize(2));
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findExpiredVouchers(now), empty());
+        assertThat(reopened.findExpiredVouchers(now.plusDays(2)), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 파일에 한 번에 등록하고 수정할 수 있다.")
+    void testInsertAllAndUpdateAll() {
+        List<Voucher> vouchers = List.of(createFixedAmountVoucher(UUID.randomUUID()), createPercentDiscountVoucher(UUID.randomUUID()));
+        voucherRepository.insertAll(vouchers);
+
+        UUID ownerId = UUID.randomUUID();
+        vouchers.forEach(voucher -> voucher.setOwnerId(ownerId));
+        voucherRepository.updateAll(vouchers);
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findByCustomer(ownerId), hasSize(2));
+
+        assertThat(voucherRepository.findAll(), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("하나라도 이미 있는 바우처가 섞여 있으면 파일에 아무것도 등록하지 않는다.")
+    void testInsertAllWithSameIdVoucher() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+
+        assertThrows(VoucherBadRequestException.class, () -> voucherRepository.insertAll(List.of(createPercentDiscountVoucher(UUID.randomUUID()), fixedAmountVoucher)));
+        assertThat(voucherRepository.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("바우처를 아이디 순서로 나눠 이어서 조회할 수 있다.")
+    void testFindPage() {
+        List<UUID> voucherIds = List.of(new UUID(1, 0), new UUID(2, 0), new UUID(3, 0), new UUID(Long.MIN_VALUE, 0), new UUID(-1, 0));
+        UUID ownerId = UUID.randomUUID();
+        LocalDateTime expiredAt = LocalDateTime.now().minusHours(1).withNano(0);
+        for (int i = voucherIds.size() - 1; i >= 0; i--) {
+            Voucher voucher = createFixedAmountVoucher(voucherIds.get(i));
+            voucher.setExpiredAt((i == 4) ? expiredAt.minusMinutes(1) : expiredAt);
+            voucher.setOwnerId((i % 2 == 0) ? ownerId : null);
+            voucherRepository.insert(voucher);
+        }
+
+        List<Voucher> firstPage = voucherRepository.findPage(null, 2);
+        List<Voucher> secondPage = voucherRepository.findPage(firstPage.get(1).getVoucherId(), 2);
+        List<Voucher> lastPage = voucherRepository.findPage(secondPage.get(1).getVoucherId(), 2);
+
+        assertThat(toVoucherIds(firstPage), contains(voucherIds.get(0), voucherIds.get(1)));
+        assertThat(toVoucherIds(secondPage), contains(voucherIds.get(2), voucherIds.get(3)));
+        assertThat(toVoucherIds(lastPage), contains(voucherIds.get(4)));
+        assertThat(toVoucherIds(voucherRepository.findPageByCustomer(ownerId, voucherIds.get(0), 10)), contains(voucherIds.get(2), voucherIds.get(4)));
+        LocalDateTime at = LocalDateTime.now().plusDays(1);
+        assertThat(toVoucherIds(voucherRepository.findExpiredPage(at, null, 2)), contains(voucherIds.get(4), voucherIds.get(0)));
+        assertThat(toVoucherIds(voucherRepository.findExpiredPage(at, new VoucherExpiry(voucherIds.get(2), expiredAt), 10)), contains(voucherIds.get(3)));
+        assertThat(voucherRepository.findExpiredPage(LocalDateTime.now().minusDays(1), null, 10), empty());
+        assertThat(voucherRepository.findExpiryPage(at, new VoucherExpiry(voucherIds.get(4), expiredAt.minusMinutes(1)), 2).stream()
+                .map(VoucherExpiry::getVoucherId)
+                .collect(Collectors.toList()), contains(voucherIds.get(0), voucherIds.get(1)));
+    }
+
     @Test
     @DisplayName("파일에서 전체 바우처를 삭제할 수 있다.")
     void testDeleteAll() {
@@ -90,6 +379,115 @@ class FileVoucherRepositoryTest {
         assertThat(voucherRepository.findAll().isEmpty(), is(true));
     }
 
+    private List<UUID> toVoucherIds(List<Voucher> vouchers) {
+        return vouchers.stream().map(Voucher::getVoucherId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("조건부 변경은 조건이 맞을 때만 반영되고, 소유자로 찾는 결과도 함께 바뀐다.")
+    void testConditionalUpdates() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher voucher = voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucher.getVoucherId(), ownerId), is(true));
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucher.getVoucherId(), UUID.randomUUID()), is(false));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucher.getVoucherId()), is(true));
+        assertThat(voucherRepository.markUsedIfUnused(voucher.getVoucherId()), is(false));
+        assertThat(voucherRepository.findById(voucher.getVoucherId()).orElseThrow().isUsed(), is(true));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.markUsedIfUnused(UUID.randomUUID()));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.assignOwnerIfUnowned(UUID.randomUUID(), ownerId));
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findById(voucher.getVoucherId()).orElseThrow().getOwnerId(), is(ownerId));
+        assertThat(reopened.findById(voucher.getVoucherId()).orElseThrow().isUsed(), is(true));
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 한 번에 할당, 사용, 회수하면 조건에 맞는 바우처만 바뀌고 그 개수를 돌려준다.")
+    void testBulkWalletOperations() {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherOwnerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(otherOwnerId);
+        Voucher usedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        usedVoucher.setUsed(true);
+        Voucher freeVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insertAll(List.of(ownedVoucher, usedVoucher, freeVoucher));
+        List<UUID> voucherIds = List.of(ownedVoucher.getVoucherId(), usedVoucher.getVoucherId(), freeVoucher.getVoucherId(), UUID.randomUUID());
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucherIds, ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(otherOwnerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(2));
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(0));
+
+        assertThat(voucherRepository.detachAllFromOwner(ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+        assertThat(voucherRepository.findById(freeVoucher.getVoucherId()).orElseThrow().getOwnerId(), nullValue());
+        assertThat(voucherRepository.findById(ownedVoucher.getVoucherId()).orElseThrow().getOwnerId(), is(otherOwnerId));
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findById(freeVoucher.getVoucherId()).orElseThrow().isUsed(), is(true));
+        assertThat(reopened.findByCustomer(otherOwnerId), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("아이디, 소유자와 사용 여부, 요약만 골라 조회해도 바우처 전체를 조회한 값과 같다.")
+    void testProjections() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(ownerId);
+        ownedVoucher.setExpiredAt(LocalDateTime.now().plusDays(1));
+        Voucher expiredVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        expiredVoucher.setExpiredAt(LocalDateTime.now().minusDays(1));
+        expiredVoucher.setUsed(true);
+        voucherRepository.insert(ownedVoucher);
+        voucherRepository.insert(expiredVoucher);
+
+        assertThat(voucherRepository.findIdsByCustomer(ownerId), contains(ownedVoucher.getVoucherId()));
+        assertThat(voucherRepository.findExpiredIds(LocalDateTime.now()), contains(expiredVoucher.getVoucherId()));
+
+        VoucherStatus status = voucherRepository.findStatusById(ownedVoucher.getVoucherId()).orElseThrow();
+        assertThat(status.getOwnerId(), is(ownerId));
+        assertThat(status.isUsed(), is(false));
+        assertThat(voucherRepository.findStatusById(UUID.randomUUID()).isEmpty(), is(true));
+
+        List<VoucherSummary> summaries = voucherRepository.findSummaries();
+        assertThat(summaries, hasSize(2));
+        VoucherSummary summary = summaries.stream()
+                .filter(voucherSummary -> voucherSummary.getVoucherId().equals(expiredVoucher.getVoucherId()))
+                .findAny()
+                .orElseThrow();
+        assertThat(summary.getType(), is(expiredVoucher.getType()));
+        assertThat(summary.getAmount(), is(expiredVoucher.getAmount()));
+        assertThat(summary.isUsed(), is(true));
+    }
+
+    @Test
+    @DisplayName("만료된 바우처를 압축 보관 파일로 옮기고, 보관본을 아이디로 찾을 수 있다.")
+    void testArchive() {
+        LocalDateTime now = LocalDateTime.now();
+        Voucher expiredVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        expiredVoucher.setExpiredAt(now.minusDays(1));
+        Voucher activeVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        activeVoucher.setExpiredAt(now.plusDays(1));
+        voucherRepository.insertAll(List.of(expiredVoucher, activeVoucher));
+
+        int archived = voucherRepository.archiveAll(List.of(expiredVoucher.getVoucherId(), activeVoucher.getVoucherId(), UUID.randomUUID()), now);
+
+        assertThat(archived, is(1));
+        assertThat(voucherRepository.findById(expiredVoucher.getVoucherId()).isEmpty(), is(true));
+        assertThat(voucherRepository.findArchivedById(expiredVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(expiredVoucher));
+        assertThat(voucherRepository.findArchivedById(activeVoucher.getVoucherId()).isEmpty(), is(true));
+
+        VoucherRepository reopened = new FileVoucherRepository("data", "voucher_test.csv");
+        assertThat(reopened.findAll(), hasSize(1));
+        assertThat(reopened.findArchivedById(expiredVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(expiredVoucher));
+    }
+
     private Voucher createFixedAmountVoucher(UUID voucherId) {
         return FixedAmountVoucher.builder()
                 .voucherId((voucherId != null) ? voucherId : UUID.randomUUID())
@@ -4,7 +4,13 @@ import org.junit.jupiter.api.*;
 import org.prgrms.java.domain.voucher.FixedAmountVoucher;
 import org.prgrms.java.domain.voucher.PercentDiscountVoucher;
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
+import org.prgrms.java.repository.support.InstrumentedDataSource;
+import org.prgrms.java.repository.support.QueryMetrics;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.testcontainers.containers.MySQLContainer;
@@ -12,8 +18,12 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -25,7 +35,8 @@ class JdbcVoucherRepositoryTest {
     private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>("mysql:8.0.24")
             .withInitScript("schema.sql")
             .withUsername("test")
-            .withPassword("test1234!");
+            .withPassword("test1234!")
+            .withUrlParam("rewriteBatchedStatements", "true");
 
     public DataSource dataSource = DataSourceBuilder.create()
             .driverClassName(MY_SQL_CONTAINER.getDriverClassName())
@@ -99,6 +110,69 @@ class JdbcVoucherRepositoryTest {
         assertThat(voucherRepository.findAll(), hasSize(2));
     }
 
+    @Test
+    @DisplayName("등록한 바우처를 스트림으로 하나씩 읽을 수 있다.")
+    void testStream() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        fixedAmountVoucher.setOwnerId(ownerId);
+
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        try (Stream<Voucher> vouchers = voucherRepository.streamAll()) {
+            assertThat(vouchers.count(), is(2L));
+        }
+        try (Stream<Voucher> vouchers = voucherRepository.streamByCustomer(ownerId)) {
+            assertThat(vouchers.toList().get(0).getVoucherId(), is(fixedAmountVoucher.getVoucherId()));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 한 번에 등록하고 수정할 수 있다.")
+    void testInsertAllAndUpdateAll() {
+        List<Voucher> vouchers = List.of(createFixedAmountVoucher(UUID.randomUUID()), createPercentDiscountVoucher(UUID.randomUUID()));
+        voucherRepository.insertAll(vouchers);
+
+        UUID ownerId = UUID.randomUUID();
+        vouchers.forEach(voucher -> voucher.setOwnerId(ownerId));
+        voucherRepository.updateAll(vouchers);
+
+        assertThat(voucherRepository.findAll(), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("바우처를 아이디 순서로 나눠 이어서 조회할 수 있다.")
+    void testFindPage() {
+        List<UUID> voucherIds = List.of(new UUID(1, 0), new UUID(2, 0), new UUID(3, 0), new UUID(Long.MIN_VALUE, 0), new UUID(-1, 0));
+        UUID ownerId = UUID.randomUUID();
+        LocalDateTime expiredAt = LocalDateTime.now().minusHours(1).withNano(0);
+        for (int i = voucherIds.size() - 1; i >= 0; i--) {
+            Voucher voucher = createFixedAmountVoucher(voucherIds.get(i));
+            voucher.setExpiredAt((i == 4) ? expiredAt.minusMinutes(1) : expiredAt);
+            voucher.setOwnerId((i % 2 == 0) ? ownerId : null);
+            voucherRepository.insert(voucher);
+        }
+
+        List<Voucher> firstPage = voucherRepository.findPage(null, 2);
+        List<Voucher> secondPage = voucherRepository.findPage(firstPage.get(1).getVoucherId(), 2);
+        List<Voucher> lastPage = voucherRepository.findPage(secondPage.get(1).getVoucherId(), 2);
+
+        assertThat(toVoucherIds(firstPage), contains(voucherIds.get(0), voucherIds.get(1)));
+        assertThat(toVoucherIds(secondPage), contains(voucherIds.get(2), voucherIds.get(3)));
+        assertThat(toVoucherIds(lastPage), contains(voucherIds.get(4)));
+        assertThat(toVoucherIds(voucherRepository.findPageByCustomer(ownerId, voucherIds.get(0), 10)), contains(voucherIds.get(2), voucherIds.get(4)));
+        LocalDateTime at = LocalDateTime.now().plusDays(1);
+        assertThat(toVoucherIds(voucherRepository.findExpiredPage(at, null, 2)), contains(voucherIds.get(4), voucherIds.get(0)));
+        assertThat(toVoucherIds(voucherRepository.findExpiredPage(at, new VoucherExpiry(voucherIds.get(2), expiredAt), 10)), contains(voucherIds.get(3)));
+        assertThat(voucherRepository.findExpiredPage(LocalDateTime.now().minusDays(1), null, 10), empty());
+        assertThat(voucherRepository.findExpiryPage(at, new VoucherExpiry(voucherIds.get(4), expiredAt.minusMinutes(1)), 2).stream()
+                .map(VoucherExpiry::getVoucherId)
+                .collect(Collectors.toList()), contains(voucherIds.get(0), voucherIds.get(1)));
+    }
+
     @Test
     @DisplayName("전체 바우처를 삭제할 수 있다.")
     void testDeleteAll() {
@@ -112,6 +186,136 @@ class JdbcVoucherRepositoryTest {
         assertThat(voucherRepository.findAll().isEmpty(), is(true));
     }
 
+    private List<UUID> toVoucherIds(List<Voucher> vouchers) {
+        return vouchers.stream().map(Voucher::getVoucherId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("조건부 변경은 조건이 맞을 때만 반영되고, 소유자로 찾는 결과도 함께 바뀐다.")
+    void testConditionalUpdates() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher voucher = voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucher.getVoucherId(), ownerId), is(true));
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucher.getVoucherId(), UUID.randomUUID()), is(false));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucher.getVoucherId()), is(true));
+        assertThat(voucherRepository.markUsedIfUnused(voucher.getVoucherId()), is(false));
+        assertThat(voucherRepository.findById(voucher.getVoucherId()).orElseThrow().isUsed(), is(true));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.markUsedIfUnused(UUID.randomUUID()));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.assignOwnerIfUnowned(UUID.randomUUID(), ownerId));
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 한 번에 할당, 사용, 회수하면 조건에 맞는 바우처만 바뀌고 그 개수를 돌려준다.")
+    void testBulkWalletOperations() {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherOwnerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(otherOwnerId);
+        Voucher usedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        usedVoucher.setUsed(true);
+        Voucher freeVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insertAll(List.of(ownedVoucher, usedVoucher, freeVoucher));
+        List<UUID> voucherIds = List.of(ownedVoucher.getVoucherId(), usedVoucher.getVoucherId(), freeVoucher.getVoucherId(), UUID.randomUUID());
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucherIds, ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(otherOwnerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(2));
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(0));
+
+        assertThat(voucherRepository.detachAllFromOwner(ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+        assertThat(voucherRepository.findById(freeVoucher.getVoucherId()).orElseThrow().getOwnerId(), nullValue());
+        assertThat(voucherRepository.findById(ownedVoucher.getVoucherId()).orElseThrow().getOwnerId(), is(otherOwnerId));
+    }
+
+    @Test
+    @DisplayName("아이디, 소유자와 사용 여부, 요약만 골라 조회해도 바우처 전체를 조회한 값과 같다.")
+    void testProjections() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(ownerId);
+        ownedVoucher.setExpiredAt(LocalDateTime.now().plusDays(1));
+        Voucher expiredVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        expiredVoucher.setExpiredAt(LocalDateTime.now().minusDays(1));
+        expiredVoucher.setUsed(true);
+        voucherRepository.insert(ownedVoucher);
+        voucherRepository.insert(expiredVoucher);
+
+        assertThat(voucherRepository.findIdsByCustomer(ownerId), contains(ownedVoucher.getVoucherId()));
+        assertThat(voucherRepository.findExpiredIds(LocalDateTime.now()), contains(expiredVoucher.getVoucherId()));
+
+        VoucherStatus status = voucherRepository.findStatusById(ownedVoucher.getVoucherId()).orElseThrow();
+        assertThat(status.getOwnerId(), is(ownerId));
+        assertThat(status.isUsed(), is(false));
+        assertThat(voucherRepository.findStatusById(UUID.randomUUID()).isEmpty(), is(true));
+
+        List<VoucherSummary> summaries = voucherRepository.findSummaries();
+        assertThat(summaries, hasSize(2));
+        VoucherSummary summary = summaries.stream()
+                .filter(voucherSummary -> voucherSummary.getVoucherId().equals(expiredVoucher.getVoucherId()))
+                .findAny()
+                .orElseThrow();
+        assertThat(summary.getType(), is(expiredVoucher.getType()));
+        assertThat(summary.getAmount(), is(expiredVoucher.getAmount()));
+        assertThat(summary.isUsed(), is(true));
+    }
+
+    @Test
+    @DisplayName("감싼 DataSource 로 실행한 쿼리는 쿼리 상수 이름별로 실행 횟수와 행 수가 기록된다.")
+    void testQueryMetrics() {
+        QueryMetrics queryMetrics = new QueryMetrics(Duration.ofSeconds(10), Duration.ofSeconds(10));
+        queryMetrics.registerQueries(JdbcVoucherRepository.class);
+        VoucherRepository instrumentedRepository = new JdbcVoucherRepository(
+                new NamedParameterJdbcTemplate(new InstrumentedDataSource(dataSource, queryMetrics)));
+        UUID ownerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(ownerId);
+        Voucher otherVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+
+        instrumentedRepository.insert(ownedVoucher);
+        instrumentedRepository.insert(otherVoucher);
+        instrumentedRepository.findByCustomer(ownerId);
+        instrumentedRepository.markUsedIfUnused(List.of(ownedVoucher.getVoucherId(), otherVoucher.getVoucherId()));
+
+        QueryMetrics.Snapshot snapshot = queryMetrics.getSnapshot();
+        assertThat(findQueryStats(snapshot, "JdbcVoucherRepository.INSERT_QUERY").getExecution().getCount(), is(2L));
+        assertThat(findQueryStats(snapshot, "JdbcVoucherRepository.INSERT_QUERY").getRowsAffected(), is(2L));
+        assertThat(findQueryStats(snapshot, "JdbcVoucherRepository.FIND_BY_OWNER_QUERY").getRowsReturned(), is(1L));
+        assertThat(findQueryStats(snapshot, "JdbcVoucherRepository.MARK_ALL_USED_IF_UNUSED_QUERY").getRowsAffected(), is(2L));
+        assertThat(snapshot.getConnections().getAcquisition().getCount(), greaterThanOrEqualTo(4L));
+    }
+
+    @Test
+    @DisplayName("만료된 바우처를 보관 테이블로 옮기고, 보관본을 아이디로 찾을 수 있다.")
+    void testArchive() {
+        LocalDateTime now = LocalDateTime.now();
+        Voucher expiredVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        expiredVoucher.setExpiredAt(now.minusDays(1));
+        Voucher activeVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        activeVoucher.setExpiredAt(now.plusDays(1));
+        voucherRepository.insertAll(List.of(expiredVoucher, activeVoucher));
+
+        int archived = voucherRepository.archiveAll(List.of(expiredVoucher.getVoucherId(), activeVoucher.getVoucherId(), UUID.randomUUID()), now);
+
+        assertThat(archived, is(1));
+        assertThat(voucherRepository.findById(expiredVoucher.getVoucherId()).isEmpty(), is(true));
+        assertThat(voucherRepository.findAll(), hasSize(1));
+        assertThat(voucherRepository.findArchivedById(expiredVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(expiredVoucher));
+        assertThat(voucherRepository.findArchivedById(activeVoucher.getVoucherId()).isEmpty(), is(true));
+    }
+
+    private QueryMetrics.QueryStats findQueryStats(QueryMetrics.Snapshot snapshot, String name) {
+        return snapshot.getQueries().stream()
+                .filter(queryStats -> queryStats.getName().equals(name))
+                .findAny()
+                .orElseThrow();
+    }
+
     private Voucher createFixedAmountVoucher(UUID voucherId) {
         return FixedAmountVoucher.builder()
                 .voucherId((voucherId != null) ? voucherId : UUID.randomUUID())
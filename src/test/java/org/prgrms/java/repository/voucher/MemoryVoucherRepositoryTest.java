@@ -7,10 +7,27 @@ import org.junit.jupiter.api.Test;
 import org.prgrms.java.domain.voucher.FixedAmountVoucher;
 import org.prgrms.java.domain.voucher.PercentDiscountVoucher;
 import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.domain.voucher.VoucherExpiry;
+import org.prgrms.java.domain.voucher.VoucherStatus;
+import org.prgrms.java.domain.voucher.VoucherSummary;
 import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+import org.prgrms.java.exception.notfound.VoucherNotFoundException;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -82,6 +99,309 @@ class MemoryVoucherRepositoryTest {
         assertThat(voucherRepository.findAll(), hasSize(2));
     }
 
+    @Test
+    @DisplayName("등록한 바우처를 스트림으로 하나씩 읽을 수 있다.")
+    void testStream() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher percentDiscountVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        fixedAmountVoucher.setOwnerId(ownerId);
+
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(percentDiscountVoucher);
+
+        try (Stream<Voucher> vouchers = voucherRepository.streamAll()) {
+            assertThat(vouchers.count(), is(2L));
+        }
+        try (Stream<Voucher> vouchers = voucherRepository.streamByCustomer(ownerId)) {
+            assertThat(vouchers.toList().get(0), samePropertyValuesAs(fixedAmountVoucher));
+        }
+        try (Stream<Voucher> vouchers = voucherRepository.streamExpiredVouchers()) {
+            assertThat(vouchers.count(), is(2L));
+        }
+    }
+
+    @Test
+    @DisplayName("바우처의 소유자가 바뀌면 소유자로 찾는 결과도 바뀐다.")
+    void testOwnerIndex() {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherOwnerId = UUID.randomUUID();
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+        voucherRepository.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+
+        fixedAmountVoucher.setOwnerId(ownerId);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(new UUID(ownerId.getMostSignificantBits(), ownerId.getLeastSignificantBits())), hasSize(1));
+
+        fixedAmountVoucher.setOwnerId(otherOwnerId);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+        assertThat(voucherRepository.findByCustomer(otherOwnerId).get(0), samePropertyValuesAs(fixedAmountVoucher));
+
+        fixedAmountVoucher.setOwnerId(null);
+        voucherRepository.update(fixedAmountVoucher);
+        assertThat(voucherRepository.findByCustomer(otherOwnerId), empty());
+    }
+
+    @Test
+    @DisplayName("만료 시각을 기준으로 만료된 바우처를 만료 순서대로 찾을 수 있다.")
+    void testExpiryIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        Voucher earlyVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        Voucher lateVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        earlyVoucher.setExpiredAt(now.minusDays(2));
+        lateVoucher.setExpiredAt(now.minusDays(1));
+        voucherRepository.insert(lateVoucher);
+        voucherRepository.insert(earlyVoucher);
+        voucherRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+
+        assertThat(voucherRepository.findExpiredVouchers(now.minusDays(3)), empty());
+        assertThat(voucherRepository.findExpiredVouchers(now.minusDays(1)), contains(samePropertyValuesAs(earlyVoucher)));
+        assertThat(voucherRepository.findExpiredVouchers(now).get(1), samePropertyValuesAs(lateVoucher));
+
+        lateVoucher.setExpiredAt(now.plusDays(1));
+        voucherRepository.update(lateVoucher);
+        voucherRepository.delete(voucherRepository.findExpiredVouchers(now).get(0).getVoucherId());
+        assertThat(voucherRepository.findExpiredVouchers(now), empty());
+        assertThat(voucherRepository.findExpiredVouchers(now.plusDays(2)), hasSize(2));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 바우처는 묶음 단위로 알림을 받고, 만료 시각을 늦추면 만료 목록에서 빠진다.")
+    void testExpiryTracking() throws InterruptedException {
+        MemoryVoucherRepository trackingRepository = new MemoryVoucherRepository(10, 2);
+        List<List<Voucher>> batches = Collections.synchronizedList(new ArrayList<>());
+        trackingRepository.setExpiryListener(batches::add);
+
+        List<Voucher> expiredVouchers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Voucher voucher = createFixedAmountVoucher(UUID.randomUUID());
+            voucher.setExpiredAt(LocalDateTime.now().minusMinutes(i + 1));
+            expiredVouchers.add(trackingRepository.insert(voucher));
+        }
+        Voucher validVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        validVoucher.setExpiredAt(LocalDateTime.now().plusDays(1));
+        trackingRepository.insert(validVoucher);
+
+        for (int i = 0; i < 200 && batches.stream().mapToInt(List::size).sum() < 5; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(batches.stream().mapToInt(List::size).sum(), is(5));
+        assertThat(batches.stream().allMatch(batch -> batch.size() <= 2), is(true));
+        assertThat(trackingRepository.findExpiredVouchers(), hasSize(5));
+
+        Voucher extendedVoucher = expiredVouchers.get(0);
+        extendedVoucher.setExpiredAt(LocalDateTime.now().plusDays(1));
+        trackingRepository.update(extendedVoucher);
+        assertThat(trackingRepository.findExpiredVouchers(), hasSize(4));
+        assertThat(trackingRepository.findExpiredVouchers(LocalDateTime.now().plusDays(2)), hasSize(6));
+
+        trackingRepository.delete(expiredVouchers.get(1).getVoucherId());
+        assertThat(trackingRepository.findExpiredVouchers(), hasSize(3));
+        trackingRepository.close();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 바우처를 만료 시각을 바꾸지 않고 수정하면 만료 알림을 다시 받지 않는다.")
+    void testReindexExpiredVoucher() throws InterruptedException {
+        MemoryVoucherRepository trackingRepository = new MemoryVoucherRepository(10, 2);
+        List<List<Voucher>> batches = Collections.synchronizedList(new ArrayList<>());
+        trackingRepository.setExpiryListener(batches::add);
+
+        Voucher voucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucher.setExpiredAt(LocalDateTime.now().minusMinutes(1));
+        trackingRepository.insert(voucher);
+        for (int i = 0; i < 200 && batches.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        voucher.setOwnerId(UUID.randomUUID());
+        trackingRepository.update(voucher);
+        Thread.sleep(100);
+
+        assertThat(batches, hasSize(1));
+        assertThat(trackingRepository.findExpiredVouchers(), hasSize(1));
+        trackingRepository.close();
+    }
+
+    @Test
+    @DisplayName("영속화를 켜면 다시 열어도 스냅숏과 저널로 바우처가 복구된다.")
+    void testPersistence() {
+        MemoryVoucherRepository persistentRepository = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        persistentRepository.deleteAll();
+        List<Voucher> vouchers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            vouchers.add(persistentRepository.insert(createFixedAmountVoucher(UUID.randomUUID())));
+        }
+        Voucher updatedVoucher = vouchers.get(0);
+        updatedVoucher.setOwnerId(UUID.randomUUID());
+        updatedVoucher.setUsed(true);
+        persistentRepository.update(updatedVoucher);
+        persistentRepository.delete(vouchers.get(1).getVoucherId());
+        persistentRepository.close();
+
+        MemoryVoucherRepository reopened = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        assertThat(Files.exists(Path.of("data", "voucher_memory_test.snapshot")), is(true));
+        assertThat(reopened.findAll(), hasSize(4));
+        assertThat(reopened.findById(vouchers.get(1).getVoucherId()).isEmpty(), is(true));
+        assertThat(reopened.findById(updatedVoucher.getVoucherId()).orElseThrow(), samePropertyValuesAs(updatedVoucher));
+        assertThat(reopened.findByCustomer(updatedVoucher.getOwnerId()), hasSize(1));
+
+        reopened.deleteAll();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("저널 끝에 쓰다 만 레코드가 있으면 잘라 내고 앞의 변경만 복구한다.")
+    void testRecoverFromTornJournal() throws IOException {
+        MemoryVoucherRepository persistentRepository = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        persistentRepository.deleteAll();
+        persistentRepository.close();
+        persistentRepository = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        Voucher voucher = persistentRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+        persistentRepository.close();
+
+        Path journalPath = Path.of("data", "voucher_memory_test.journal");
+        long journalSize = Files.size(journalPath);
+        Files.writeString(journalPath, "P," + UUID.randomUUID().toString().substring(0, 10), StandardOpenOption.APPEND);
+
+        MemoryVoucherRepository reopened = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        assertThat(Files.size(journalPath), is(journalSize));
+        assertThat(reopened.findAll(), hasSize(1));
+        assertThat(reopened.findById(voucher.getVoucherId()).isPresent(), is(true));
+
+        reopened.insert(createPercentDiscountVoucher(UUID.randomUUID()));
+        reopened.close();
+        reopened = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        assertThat(reopened.findAll(), hasSize(2));
+
+        reopened.deleteAll();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 한 번에 등록하고 수정할 수 있다.")
+    void testInsertAllAndUpdateAll() {
+        List<Voucher> vouchers = List.of(createFixedAmountVoucher(UUID.randomUUID()), createPercentDiscountVoucher(UUID.randomUUID()));
+        voucherRepository.insertAll(vouchers);
+
+        UUID ownerId = UUID.randomUUID();
+        vouchers.forEach(voucher -> voucher.setOwnerId(ownerId));
+        voucherRepository.updateAll(vouchers);
+
+        assertThat(voucherRepository.findAll(), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+        assertThrows(VoucherNotFoundException.class, () -> voucherRepository.updateAll(List.of(vouchers.get(0), createFixedAmountVoucher(UUID.randomUUID()))));
+    }
+
+    @Test
+    @DisplayName("하나라도 이미 있는 바우처가 섞여 있으면 아무것도 등록하지 않는다.")
+    void testInsertAllWithSameIdVoucher() {
+        Voucher fixedAmountVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insert(fixedAmountVoucher);
+
+        assertThrows(VoucherBadRequestException.class, () -> voucherRepository.insertAll(List.of(createPercentDiscountVoucher(UUID.randomUUID()), fixedAmountVoucher)));
+        assertThat(voucherRepository.findAll(), hasSize(1));
+    }
+
+    @Test
+    @DisplayName("영속화를 켜고 한 번에 등록한 바우처도 다시 열면 복구된다.")
+    void testPersistenceOfBatch() {
+        MemoryVoucherRepository persistentRepository = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        persistentRepository.deleteAll();
+        List<Voucher> vouchers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            vouchers.add(createFixedAmountVoucher(UUID.randomUUID()));
+        }
+        persistentRepository.insertAll(vouchers);
+        persistentRepository.close();
+
+        MemoryVoucherRepository reopened = new MemoryVoucherRepository("data", "voucher_memory_test", 3);
+        assertThat(reopened.findAll(), hasSize(5));
+
+        reopened.deleteAll();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("조건부 변경은 조건이 맞을 때만 반영되고, 소유자로 찾는 결과도 함께 바뀐다.")
+    void testConditionalUpdates() {
+        MemoryVoucherRepository memoryRepository = new MemoryVoucherRepository();
+        UUID ownerId = UUID.randomUUID();
+        Voucher voucher = memoryRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+
+        assertThat(memoryRepository.compareAndSetOwner(voucher.getVoucherId(), UUID.randomUUID(), ownerId), is(false));
+        assertThat(memoryRepository.compareAndSetOwner(voucher.getVoucherId(), null, ownerId), is(true));
+        assertThat(memoryRepository.findByCustomer(ownerId), hasSize(1));
+        assertThat(memoryRepository.compareAndSetOwner(voucher.getVoucherId(), ownerId, null), is(true));
+        assertThat(memoryRepository.findByCustomer(ownerId), empty());
+
+        assertThat(memoryRepository.markUsedIfUnused(voucher.getVoucherId()), is(true));
+        assertThat(memoryRepository.markUsedIfUnused(voucher.getVoucherId()), is(false));
+        assertThat(memoryRepository.findById(voucher.getVoucherId()).orElseThrow().isUsed(), is(true));
+        assertThrows(VoucherNotFoundException.class, () -> memoryRepository.markUsedIfUnused(UUID.randomUUID()));
+        memoryRepository.close();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 바우처를 동시에 사용하거나 할당해도 한 번만 성공한다.")
+    void testConcurrentConditionalUpdates() throws InterruptedException {
+        MemoryVoucherRepository memoryRepository = new MemoryVoucherRepository();
+        Voucher voucher = memoryRepository.insert(createFixedAmountVoucher(UUID.randomUUID()));
+        AtomicInteger used = new AtomicInteger();
+        AtomicInteger allocated = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        for (int i = 0; i < 64; i++) {
+            executorService.submit(() -> {
+                if (memoryRepository.markUsedIfUnused(voucher.getVoucherId())) {
+                    used.incrementAndGet();
+                }
+                if (memoryRepository.compareAndSetOwner(voucher.getVoucherId(), null, UUID.randomUUID())) {
+                    allocated.incrementAndGet();
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(used.get(), is(1));
+        assertThat(allocated.get(), is(1));
+        assertThat(memoryRepository.findByCustomer(memoryRepository.findById(voucher.getVoucherId()).orElseThrow().getOwnerId()), hasSize(1));
+        memoryRepository.close();
+    }
+
+    @Test
+    @DisplayName("바우처를 아이디 순서로 나눠 이어서 조회할 수 있다.")
+    void testFindPage() {
+        List<UUID> voucherIds = List.of(new UUID(1, 0), new UUID(2, 0), new UUID(3, 0), new UUID(Long.MIN_VALUE, 0), new UUID(-1, 0));
+        UUID ownerId = UUID.randomUUID();
+        LocalDateTime expiredAt = LocalDateTime.now().minusHours(1).withNano(0);
+        for (int i = voucherIds.size() - 1; i >= 0; i--) {
+            Voucher voucher = createFixedAmountVoucher(voucherIds.get(i));
+            voucher.setExpiredAt((i == 4) ? expiredAt.minusMinutes(1) : expiredAt);
+            voucher.setOwnerId((i % 2 == 0) ? ownerId : null);
+            voucherRepository.insert(voucher);
+        }
+
+        List<Voucher> firstPage = voucherRepository.findPage(null, 2);
+        List<Voucher> secondPage = voucherRepository.findPage(firstPage.get(1).getVoucherId(), 2);
+        List<Voucher> lastPage = voucherRepository.findPage(secondPage.get(1).getVoucherId(), 2);
+
+        assertThat(toVoucherIds(firstPage), contains(voucherIds.get(0), voucherIds.get(1)));
+        assertThat(toVoucherIds(secondPage), contains(voucherIds.get(2), voucherIds.get(3)));
+        assertThat(toVoucherIds(lastPage), contains(voucherIds.get(4)));
+        assertThat(toVoucherIds(voucherRepository.findPageByCustomer(ownerId, voucherIds.get(0), 10)), contains(voucherIds.get(2), voucherIds.get(4)));
+        LocalDateTime at = LocalDateTime.now().plusDays(1);
+        assertThat(toVoucherIds(voucherRepository.findExpiredPage(at, null, 2)), contains(voucherIds.get(4), voucherIds.get(0)));
+        assertThat(toVoucherIds(voucherRepository.findExpiredPage(at, new VoucherExpiry(voucherIds.get(2), expiredAt), 10)), contains(voucherIds.get(3)));
+        assertThat(voucherRepository.findExpiredPage(LocalDateTime.now().minusDays(1), null, 10), empty());
+        assertThat(voucherRepository.findExpiryPage(at, new VoucherExpiry(voucherIds.get(4), expiredAt.minusMinutes(1)), 2).stream()
+                .map(VoucherExpiry::getVoucherId)
+                .collect(Collectors.toList()), contains(voucherIds.get(0), voucherIds.get(1)));
+    }
+
     @Test
     @DisplayName("전체 바우처를 삭제할 수 있다.")
     void testDeleteAll() {
@@ -95,6 +415,68 @@ class MemoryVoucherRepositoryTest {
         assertThat(voucherRepository.findAll().isEmpty(), is(true));
     }
 
+    private List<UUID> toVoucherIds(List<Voucher> vouchers) {
+        return vouchers.stream().map(Voucher::getVoucherId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("여러 바우처를 한 번에 할당, 사용, 회수하면 조건에 맞는 바우처만 바뀌고 그 개수를 돌려준다.")
+    void testBulkWalletOperations() {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherOwnerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(otherOwnerId);
+        Voucher usedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        usedVoucher.setUsed(true);
+        Voucher freeVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        voucherRepository.insertAll(List.of(ownedVoucher, usedVoucher, freeVoucher));
+        List<UUID> voucherIds = List.of(ownedVoucher.getVoucherId(), usedVoucher.getVoucherId(), freeVoucher.getVoucherId(), UUID.randomUUID());
+
+        assertThat(voucherRepository.assignOwnerIfUnowned(voucherIds, ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), hasSize(2));
+        assertThat(voucherRepository.findByCustomer(otherOwnerId), hasSize(1));
+
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(2));
+        assertThat(voucherRepository.markUsedIfUnused(voucherIds), is(0));
+
+        assertThat(voucherRepository.detachAllFromOwner(ownerId), is(2));
+        assertThat(voucherRepository.findByCustomer(ownerId), empty());
+        assertThat(voucherRepository.findById(freeVoucher.getVoucherId()).orElseThrow().getOwnerId(), nullValue());
+        assertThat(voucherRepository.findById(ownedVoucher.getVoucherId()).orElseThrow().getOwnerId(), is(otherOwnerId));
+    }
+
+    @Test
+    @DisplayName("아이디, 소유자와 사용 여부, 요약만 골라 조회해도 바우처 전체를 조회한 값과 같다.")
+    void testProjections() {
+        UUID ownerId = UUID.randomUUID();
+        Voucher ownedVoucher = createFixedAmountVoucher(UUID.randomUUID());
+        ownedVoucher.setOwnerId(ownerId);
+        ownedVoucher.setExpiredAt(LocalDateTime.now().plusDays(1));
+        Voucher expiredVoucher = createPercentDiscountVoucher(UUID.randomUUID());
+        expiredVoucher.setExpiredAt(LocalDateTime.now().minusDays(1));
+        expiredVoucher.setUsed(true);
+        voucherRepository.insert(ownedVoucher);
+        voucherRepository.insert(expiredVoucher);
+
+        assertThat(voucherRepository.findIdsByCustomer(ownerId), contains(ownedVoucher.getVoucherId()));
+        assertThat(voucherRepository.findExpiredIds(LocalDateTime.now()), contains(expiredVoucher.getVoucherId()));
+
+        VoucherStatus status = voucherRepository.findStatusById(ownedVoucher.getVoucherId()).orElseThrow();
+        assertThat(status.getOwnerId(), is(ownerId));
+        assertThat(status.isUsed(), is(false));
+        assertThat(voucherRepository.findStatusById(UUID.randomUUID()).isEmpty(), is(true));
+
+        List<VoucherSummary> summaries = voucherRepository.findSummaries();
+        assertThat(summaries, hasSize(2));
+        VoucherSummary summary = summaries.stream()
+                .filter(voucherSummary -> voucherSummary.getVoucherId().equals(expiredVoucher.getVoucherId()))
+                .findAny()
+                .orElseThrow();
+        assertThat(summary.getType(), is(expiredVoucher.getType()));
+        assertThat(summary.getAmount(), is(expiredVoucher.getAmount()));
+        assertThat(summary.isUsed(), is(true));
+    }
+
     private Voucher createFixedAmountVoucher(UUID voucherId) {
         return FixedAmountVoucher.builder()
                 .voucherId((voucherId != null) ? voucherId : UUID.randomUUID())
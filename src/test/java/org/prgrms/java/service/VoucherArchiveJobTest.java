@@ -0,0 +1,90 @@
+package org.prgrms.java.service;
+
+import org.junit.jupiter.api.*;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.repository.support.KeysetIndex;
+import org.prgrms.java.repository.voucher.FileVoucherRepository;
+import org.prgrms.java.repository.voucher.VoucherRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class VoucherArchiveJobTest {
+    private static final String CHECKPOINT_NAME = "voucher_archive_job_test.checkpoint";
+    private static final VoucherRepository voucherRepository = new FileVoucherRepository("data", "voucher_archive_job_test.csv");
+
+    private final VoucherArchiveJob archiveJob = new VoucherArchiveJob(new VoucherService(voucherRepository), "data", CHECKPOINT_NAME,
+            false, 1000, 0, 2, 0, 0);
+
+    @BeforeEach
+    void clean() throws IOException {
+        cleanup();
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        voucherRepository.deleteAll();
+        Files.deleteIfExists(Path.of("data", CHECKPOINT_NAME));
+    }
+
+    @Test
+    @DisplayName("만료된 바우처를 묶음으로 나눠 모두 보관하고, 끝나면 체크포인트를 지운다.")
+    void testArchiveInChunks() {
+        List<Voucher> expiredVouchers = createExpiredVouchers(5);
+        Voucher activeVoucher = createVoucher(LocalDateTime.now().plusDays(1));
+        voucherRepository.insertAll(expiredVouchers);
+        voucherRepository.insert(activeVoucher);
+
+        int archived = archiveJob.run();
+
+        assertThat(archived, is(5));
+        assertThat(voucherRepository.findAll(), hasSize(1));
+        assertThat(voucherRepository.findArchivedById(expiredVouchers.get(0).getVoucherId()).isPresent(), is(true));
+        assertThat(Files.exists(Path.of("data", CHECKPOINT_NAME)), is(false));
+    }
+
+    @Test
+    @DisplayName("체크포인트가 남아 있으면 그다음 만료 시각과 아이디부터 이어서 보관한다.")
+    void testResumeFromCheckpoint() throws IOException {
+        LocalDateTime expiredAt = LocalDateTime.now().minusHours(1);
+        List<UUID> voucherIds = Stream.generate(() -> createVoucher(expiredAt))
+                .limit(4)
+                .map(voucherRepository::insert)
+                .map(Voucher::getVoucherId)
+                .sorted(KeysetIndex.ORDER)
+                .collect(Collectors.toList());
+        Files.writeString(Path.of("data", CHECKPOINT_NAME), LocalDateTime.now() + "," + expiredAt + "," + voucherIds.get(1));
+
+        int archived = archiveJob.run();
+
+        assertThat(archived, is(2));
+        assertThat(voucherRepository.findAll().stream().map(Voucher::getVoucherId).collect(Collectors.toList()),
+                containsInAnyOrder(voucherIds.get(0), voucherIds.get(1)));
+    }
+
+    private List<Voucher> createExpiredVouchers(int count) {
+        return Stream.generate(() -> createVoucher(LocalDateTime.now().minusHours(1)))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    private Voucher createVoucher(LocalDateTime expiredAt) {
+        return FixedAmountVoucher.builder()
+                .voucherId(UUID.randomUUID())
+                .amount(1000)
+                .isUsed(false)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .expiredAt(expiredAt)
+                .build();
+    }
+}
@@ -51,6 +51,19 @@ public class VoucherServiceTest {
         assertThat(fixedAmountVoucher, samePropertyValuesAs(voucher));
     }
 
+    @Test
+    @DisplayName("보관된 바우처는 보관본까지 찾도록 요청할 때만 조회된다.")
+    void testGetArchivedVoucher() {
+        Voucher voucher = createFixedAmountVoucher(UUID.randomUUID());
+        when(voucherRepository.findById(any())).thenReturn(Optional.empty());
+        when(voucherRepository.findArchivedById(voucher.getVoucherId())).thenReturn(Optional.of(voucher));
+
+        Voucher archivedVoucher = voucherService.getVoucherById(voucher.getVoucherId().toString(), true);
+
+        assertThat(archivedVoucher, samePropertyValuesAs(voucher));
+        Assertions.assertThrows(VoucherNotFoundException.class, () -> voucherService.getVoucherById(voucher.getVoucherId().toString(), false));
+    }
+
     @Test
     @DisplayName("존재하지 않는 바우처를 조회하면 예외가 발생한다.")
     void testGetNonExistVoucher() {
@@ -0,0 +1,88 @@
+package org.prgrms.java.service.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.prgrms.java.domain.customer.Customer;
+import org.prgrms.java.domain.voucher.FixedAmountVoucher;
+import org.prgrms.java.domain.voucher.PercentDiscountVoucher;
+import org.prgrms.java.domain.voucher.Voucher;
+import org.prgrms.java.exception.badrequest.CustomerBadRequestException;
+import org.prgrms.java.exception.badrequest.VoucherBadRequestException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordParserTest {
+
+    @Test
+    @DisplayName("LocalDateTime 문자열 형식을 모두 원래 값으로 읽는다.")
+    void testDateTime() {
+        List<LocalDateTime> dateTimes = List.of(
+                LocalDateTime.of(2022, 11, 3, 9, 5),
+                LocalDateTime.of(2022, 11, 3, 9, 5, 7),
+                LocalDateTime.of(2022, 11, 3, 9, 5, 7, 120_000_000),
+                LocalDateTime.of(2022, 11, 3, 9, 5, 7, 123_456_000),
+                LocalDateTime.of(2022, 11, 3, 9, 5, 7, 123_456_789));
+
+        for (LocalDateTime dateTime : dateTimes) {
+            assertThat(new RecordParser(" " + dateTime + " ").nextDateTime(), is(dateTime));
+        }
+    }
+
+    @Test
+    @DisplayName("바우처 레코드를 다시 읽으면 같은 값의 바우처가 된다.")
+    void testMapToVoucher() {
+        Voucher fixedAmountVoucher = FixedAmountVoucher.builder()
+                .voucherId(UUID.randomUUID())
+                .ownerId(UUID.randomUUID())
+                .amount(1000)
+                .isUsed(true)
+                .createdAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now().plusDays(7))
+                .build();
+        Voucher percentDiscountVoucher = PercentDiscountVoucher.builder()
+                .voucherId(UUID.randomUUID())
+                .amount(50)
+                .isUsed(false)
+                .createdAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now())
+                .build();
+
+        assertThat(VoucherMapper.mapToVoucher(fixedAmountVoucher.toString()), samePropertyValuesAs(fixedAmountVoucher));
+        assertThat(VoucherMapper.mapToVoucher(percentDiscountVoucher.toString()), samePropertyValuesAs(percentDiscountVoucher));
+    }
+
+    @Test
+    @DisplayName("사용자 레코드를 다시 읽으면 같은 값의 사용자가 된다.")
+    void testMapToCustomer() {
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .name("테스트")
+                .email("test@gmail.com")
+                .createdAt(LocalDateTime.now())
+                .isBlocked(true)
+                .build();
+
+        assertThat(CustomerMapper.mapToCustomer(customer.toString()), samePropertyValuesAs(customer));
+    }
+
+    @Test
+    @DisplayName("필드 수가 맞지 않거나 값이 손상된 레코드는 읽을 수 없다.")
+    void testMalformedRecord() {
+        String voucherId = UUID.randomUUID().toString();
+        String createdAt = LocalDateTime.now().toString();
+
+        assertThrows(VoucherBadRequestException.class, () -> VoucherMapper.mapToVoucher(voucherId + ", null, 1000, FixedAmountVoucher, " + createdAt + ", " + createdAt));
+        assertThrows(VoucherBadRequestException.class, () -> VoucherMapper.mapToVoucher(voucherId + ", null, 1000, FixedAmountVoucher, " + createdAt + ", " + createdAt + ", false, extra"));
+        assertThrows(VoucherBadRequestException.class, () -> VoucherMapper.mapToVoucher(voucherId + ", null, 1O00, FixedAmountVoucher, " + createdAt + ", " + createdAt + ", false"));
+        assertThrows(VoucherBadRequestException.class, () -> VoucherMapper.mapToVoucher(voucherId + ", null, 1000, UnknownVoucher, " + createdAt + ", " + createdAt + ", false"));
+        assertThrows(VoucherBadRequestException.class, () -> VoucherMapper.mapToVoucher(voucherId + ", null, 1000, FixedAmountVoucher, " + createdAt + ", " + createdAt + ", flase"));
+        assertThrows(CustomerBadRequestException.class, () -> CustomerMapper.mapToCustomer(voucherId + ", test, test@gmail.com, " + createdAt + ", yes"));
+        assertThrows(CustomerBadRequestException.class, () -> CustomerMapper.mapToCustomer("g" + voucherId.substring(1) + ", test, test@gmail.com, " + createdAt + ", false"));
+    }
+}
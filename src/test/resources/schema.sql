@@ -16,5 +16,20 @@ CREATE TABLE if NOT EXISTS vouchers
     type            VARCHAR(50)     NOT NULL,
     created_at      DATETIME(6)     NOT NULL,
     expired_at      DATETIME(6)     NOT NULL,
-    used            BOOLEAN         DEFAULT FALSE NOT NULL
+    used            BOOLEAN         DEFAULT FALSE NOT NULL,
+    INDEX idx_voucher_owner_id (owner_id),
+    INDEX idx_voucher_expired_at (expired_at, voucher_id)
+);
+
+CREATE TABLE if NOT EXISTS vouchers_archive
+(
+    voucher_id      BINARY(16)      PRIMARY KEY NOT NULL,
+    owner_id        BINARY(16)      DEFAULT NULL,
+    amount          BIGINT          NOT NULL,
+    type            VARCHAR(50)     NOT NULL,
+    created_at      DATETIME(6)     NOT NULL,
+    expired_at      DATETIME(6)     NOT NULL,
+    used            BOOLEAN         DEFAULT FALSE NOT NULL,
+    archived_at     DATETIME(6)     NOT NULL,
+    INDEX idx_voucher_archive_owner_id (owner_id)
 );
\ No newline at end of file